@@ -0,0 +1,296 @@
+package seedu.duke.generator;
+
+import seedu.duke.model.Activity;
+import seedu.duke.model.ActivityList;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.Exercise;
+import seedu.duke.model.Food;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates synthetic histories for load testing, in the tpcsv.csv format read by Storage, together with shortcut
+ * sets in the .txt format read by the addset command.
+ * Descriptions are drawn from a vocabulary with Zipf-distributed ranks, so a few descriptions are very common and
+ * most are rare, and calories from a normal distribution within the limits of the add command.
+ * The same seed and options always generate the same history.
+ */
+public class HistoryGenerator {
+    public static final String DATA_FILE = "tpdata/tpcsv.csv";
+    public static final String[] FOODS = {"rice", "chicken", "bread", "egg", "apple", "milk", "noodles", "salad",
+        "fish", "tea", "coffee", "banana", "soup", "pasta", "beef", "tofu", "yoghurt", "orange", "cereal", "pork",
+        "prawn", "dumpling", "curry", "porridge", "sandwich", "burger", "fries", "pizza", "sushi", "laksa", "satay",
+        "kaya toast", "oats", "cheese", "juice", "cake", "cookie", "mango", "grapes", "durian"};
+    public static final String[] EXERCISES = {"walking", "jogging", "cycling", "swimming", "pushups", "situps",
+        "yoga", "badminton", "basketball", "hiking"};
+    private static final int MAXIMUM_CALORIES = 3000;
+    private static final String FOOD_TAG = "f/ ";
+    private static final String EXERCISE_TAG = "e/ ";
+    private static final String CALORIE_TAG = " c/ ";
+    private static final String SET_EXTENSION = ".txt";
+
+    private final long seed;
+    private int vocabularySize = 1000;
+    private double zipfExponent = 1.0;
+    private double exerciseShare = 0.2;
+    private int meanCalories = 400;
+    private int calorieDeviation = 200;
+    private double[] cumulativeWeights;
+
+    /**
+     * Constructor for the generator.
+     *
+     * @param seed seed of the random draws
+     */
+    public HistoryGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of different food descriptions and how steeply their frequency falls with their rank.
+     *
+     * @param vocabularySize number of different food descriptions, at most FOODS.length * FOODS.length
+     * @param zipfExponent exponent of the Zipf distribution, where 0 makes every description equally common
+     * @return this generator
+     */
+    public HistoryGenerator setVocabulary(int vocabularySize, double zipfExponent) {
+        this.vocabularySize = Math.max(1, Math.min(vocabularySize, FOODS.length * FOODS.length));
+        this.zipfExponent = zipfExponent;
+        cumulativeWeights = null;
+        return this;
+    }
+
+    /**
+     * Sets the distribution of the calories of food. Exercises burn half as many calories on average.
+     *
+     * @param meanCalories mean calories of a food
+     * @param calorieDeviation standard deviation of the calories
+     * @param exerciseShare share of the activities that are exercises, from 0 to 1
+     * @return this generator
+     */
+    public HistoryGenerator setCalories(int meanCalories, int calorieDeviation, double exerciseShare) {
+        this.meanCalories = meanCalories;
+        this.calorieDeviation = calorieDeviation;
+        this.exerciseShare = exerciseShare;
+        return this;
+    }
+
+    /**
+     * Returns the food description of a rank, where rank 0 is the most common.
+     * The first FOODS.length ranks are single foods, the later ones pair a food with a different one.
+     *
+     * @param rank rank of the description
+     * @return food description
+     */
+    public static String getDescription(int rank) {
+        String food = FOODS[rank % FOODS.length];
+        if (rank < FOODS.length) {
+            return food;
+        }
+        return food + " " + FOODS[(rank + rank / FOODS.length) % FOODS.length];
+    }
+
+    /**
+     * Generates a history in memory.
+     *
+     * @param startDate first date of the history
+     * @param days number of days
+     * @param activitiesPerDay number of activities on each day
+     * @return history with no changed dates left to save
+     */
+    public DayMap generate(LocalDate startDate, int days, int activitiesPerDay) {
+        Random random = new Random(seed);
+        DayMap dayMap = new DayMap();
+        for (int i = 0; i < days; i++) {
+            LocalDate date = startDate.plusDays(i);
+            for (int j = 0; j < activitiesPerDay; j++) {
+                dayMap.addActivity(date.atStartOfDay(), createActivity(random, date));
+            }
+        }
+        dayMap.clearChangedDates();
+        return dayMap;
+    }
+
+    /**
+     * Writes a history as a tpcsv.csv file, one day at a time, so that histories larger than the memory can be
+     * written. The history written is the same as the one generated in memory with the same options.
+     *
+     * @param dataFile file to write, replaced if it exists
+     * @param startDate first date of the history
+     * @param days number of days
+     * @param activitiesPerDay number of activities on each day
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path dataFile, LocalDate startDate, int days, int activitiesPerDay) throws IOException {
+        Random random = new Random(seed);
+        createParentFolders(dataFile);
+        StringBuilder line = new StringBuilder();
+        try (BufferedWriter writer = Files.newBufferedWriter(dataFile)) {
+            for (int i = 0; i < days; i++) {
+                LocalDate date = startDate.plusDays(i);
+                ActivityList activityList = new ActivityList();
+                for (int j = 0; j < activitiesPerDay; j++) {
+                    activityList.addActivity(createActivity(random, date));
+                }
+                line.setLength(0);
+                line.append(date).append(", ");
+                activityList.appendTo(line);
+                writer.append(line).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes shortcut sets named set1.txt, set2.txt and so on, each holding a meal of foods and exercises.
+     *
+     * @param folder folder to write the sets into, which is where the addset command looks for them
+     * @param numberOfSets number of sets
+     * @param activitiesPerSet number of activities in each set
+     * @throws IOException if a set cannot be written
+     */
+    public void writeSets(Path folder, int numberOfSets, int activitiesPerSet) throws IOException {
+        Random random = new Random(seed);
+        Files.createDirectories(folder);
+        for (int i = 1; i <= numberOfSets; i++) {
+            try (BufferedWriter writer = Files.newBufferedWriter(folder.resolve("set" + i + SET_EXTENSION))) {
+                for (int j = 0; j < activitiesPerSet; j++) {
+                    Activity activity = createActivity(random, null);
+                    writer.write(activity instanceof Exercise ? EXERCISE_TAG : FOOD_TAG);
+                    writer.write(activity.getActivityDescription());
+                    writer.write(CALORIE_TAG);
+                    writer.write(Integer.toString(activity.getActivityCalories()));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private Activity createActivity(Random random, LocalDate date) {
+        if (random.nextDouble() < exerciseShare) {
+            String description = EXERCISES[drawRank(random) % EXERCISES.length];
+            return new Exercise(description, drawCalories(random, meanCalories / 2), date);
+        }
+        return new Food(getDescription(drawRank(random)), drawCalories(random, meanCalories), date);
+    }
+
+    private int drawCalories(Random random, int mean) {
+        long calories = Math.round(mean + random.nextGaussian() * calorieDeviation);
+        return (int) Math.max(1, Math.min(MAXIMUM_CALORIES, calories));
+    }
+
+    /**
+     * Draws a rank from the Zipf distribution, where rank r is drawn in proportion to 1 / (r + 1) ^ zipfExponent.
+     */
+    private int drawRank(Random random) {
+        if (cumulativeWeights == null) {
+            cumulativeWeights = new double[vocabularySize];
+            double total = 0;
+            for (int rank = 0; rank < vocabularySize; rank++) {
+                total += 1 / Math.pow(rank + 1, zipfExponent);
+                cumulativeWeights[rank] = total;
+            }
+        }
+        double draw = random.nextDouble() * cumulativeWeights[vocabularySize - 1];
+        int index = Arrays.binarySearch(cumulativeWeights, draw);
+        return Math.min(index >= 0 ? index : -index - 1, vocabularySize - 1);
+    }
+
+    /**
+     * Writes a history and shortcut sets from the options given.
+     *
+     * @param args --out FOLDER (default .), --days N (365), --activities-per-day N (10), --start YYYY-MM-DD
+     *             (2020-01-01), --seed N (42), --vocabulary N (1000), --zipf S (1.0), --mean-calories N (400),
+     *             --calorie-deviation N (200), --exercise-share P (0.2), --sets N (5) and --set-size N (4)
+     */
+    public static void main(String[] args) {
+        Path folder = Path.of(".");
+        int days = 365;
+        int activitiesPerDay = 10;
+        LocalDate startDate = LocalDate.of(2020, 1, 1);
+        long seed = 42;
+        int vocabularySize = 1000;
+        double zipfExponent = 1.0;
+        int meanCalories = 400;
+        int calorieDeviation = 200;
+        double exerciseShare = 0.2;
+        int numberOfSets = 5;
+        int setSize = 4;
+        try {
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                case "--out":
+                    folder = Path.of(value);
+                    break;
+                case "--days":
+                    days = Integer.parseInt(value);
+                    break;
+                case "--activities-per-day":
+                    activitiesPerDay = Integer.parseInt(value);
+                    break;
+                case "--start":
+                    startDate = LocalDate.parse(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--vocabulary":
+                    vocabularySize = Integer.parseInt(value);
+                    break;
+                case "--zipf":
+                    zipfExponent = Double.parseDouble(value);
+                    break;
+                case "--mean-calories":
+                    meanCalories = Integer.parseInt(value);
+                    break;
+                case "--calorie-deviation":
+                    calorieDeviation = Integer.parseInt(value);
+                    break;
+                case "--exercise-share":
+                    exerciseShare = Double.parseDouble(value);
+                    break;
+                case "--sets":
+                    numberOfSets = Integer.parseInt(value);
+                    break;
+                case "--set-size":
+                    setSize = Integer.parseInt(value);
+                    break;
+                default:
+                    System.out.println("Unknown option " + args[i]);
+                    return;
+                }
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            System.out.println("Invalid option value: " + e.getMessage());
+            return;
+        }
+
+        HistoryGenerator generator = new HistoryGenerator(seed)
+                .setVocabulary(vocabularySize, zipfExponent)
+                .setCalories(meanCalories, calorieDeviation, exerciseShare);
+        Path dataFile = folder.resolve(DATA_FILE);
+        try {
+            generator.write(dataFile, startDate, days, activitiesPerDay);
+            generator.writeSets(folder, numberOfSets, setSize);
+        } catch (IOException e) {
+            System.out.println("Unable to write to " + folder + ": " + e.getMessage());
+            return;
+        }
+        System.out.printf("Wrote %d activities over %d days to %s, and %d shortcut sets.%n",
+                (long) days * activitiesPerDay, days, dataFile, numberOfSets);
+    }
+
+    private static void createParentFolders(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+}
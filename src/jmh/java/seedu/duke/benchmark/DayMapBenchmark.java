@@ -0,0 +1,75 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.Food;
+import seedu.duke.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the changes made to a history by the add and delete commands.
+ * Both change the history they run on, so each iteration starts from a freshly built history and times a fixed
+ * batch of BATCH_SIZE operations on it, as many as the smallest history has activities to delete.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = DayMapBenchmark.BATCH_SIZE)
+@Measurement(iterations = 5, batchSize = DayMapBenchmark.BATCH_SIZE)
+public class DayMapBenchmark {
+    static final int BATCH_SIZE = 1000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int numberOfActivities;
+
+    private DayMap dayMap;
+    private LocalDate lastDate;
+    private int operationCount;
+
+    @Setup(Level.Trial)
+    public void discardOutput() {
+        Ui.useBufferedOutput(true);
+    }
+
+    @Setup(Level.Iteration)
+    public void createHistory() {
+        dayMap = Histories.create(numberOfActivities);
+        lastDate = Histories.getLastDate(numberOfActivities);
+        operationCount = 0;
+    }
+
+    /**
+     * Adds an activity to each date from the last date of the history backwards, as a user logging a day would.
+     */
+    @Benchmark
+    public DayMap addActivity() {
+        LocalDate date = lastDate.minusDays(operationCount++ % (numberOfActivities / Histories.ACTIVITIES_PER_DAY));
+        dayMap.addActivity(date.atStartOfDay(), new Food("rice chicken", 500, date));
+        return dayMap;
+    }
+
+    /**
+     * Deletes the first activity of a listed day, listing the next day once a day is empty.
+     */
+    @Benchmark
+    public DayMap deleteActivity() {
+        if (dayMap.getLastSeenList() == null || dayMap.getLastSeenList().getNumberOfActivities() == 0) {
+            LocalDate date = lastDate.minusDays(operationCount++);
+            dayMap.setLastSeenList(dayMap.getActivityList(date.atStartOfDay()));
+        }
+        dayMap.deleteActivity(0);
+        return dayMap;
+    }
+}
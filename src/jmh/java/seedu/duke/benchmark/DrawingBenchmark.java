@@ -0,0 +1,60 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.model.ActivityList;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.GraphDrawing;
+import seedu.duke.model.GraphProperty;
+import seedu.duke.model.ListDrawer;
+import seedu.duke.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks drawing the table of the list and find commands and the graph of the graph command.
+ * The table drawn is the find result of the most common word, which grows with the history, and the graph
+ * covers the whole history. Everything drawn is discarded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DrawingBenchmark {
+    private static final int TARGET_CALORIES = 2000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int numberOfActivities;
+
+    private DayMap dayMap;
+    private ActivityList foundList;
+    private LocalDate lastDate;
+
+    @Setup
+    public void createHistory() throws Exception {
+        Ui.useBufferedOutput(true);
+        dayMap = Histories.create(numberOfActivities);
+        dayMap.listActivitiesContainingDescription(Histories.COMMON_WORD);
+        foundList = dayMap.getLastSeenList();
+        lastDate = Histories.getLastDate(numberOfActivities);
+    }
+
+    @Benchmark
+    public void printList() {
+        new ListDrawer(foundList).printList();
+        Ui.flushOutput();
+    }
+
+    @Benchmark
+    public String drawGraph() {
+        GraphProperty graphProperty = new GraphProperty(dayMap, TARGET_CALORIES, Histories.FIRST_DATE, lastDate);
+        graphProperty.setProperties();
+        return new GraphDrawing(graphProperty).drawGraph();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.exception.KeywordNotFoundException;
+import seedu.duke.model.ActivityList;
+import seedu.duke.model.DayMap;
+import seedu.duke.ui.Ui;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the four finds of the find command, for a rare keyword and a keyword found on most days.
+ * The finds only replace the last seen list, so the history is built once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int numberOfActivities;
+
+    @Param({Histories.RARE_WORD, Histories.COMMON_WORD})
+    public String keyword;
+
+    private DayMap dayMap;
+
+    private interface Find {
+        void run() throws KeywordNotFoundException;
+    }
+
+    @Setup
+    public void createHistory() {
+        Ui.useBufferedOutput(true);
+        dayMap = Histories.create(numberOfActivities);
+    }
+
+    @Benchmark
+    public ActivityList findDescription() {
+        return find(() -> dayMap.listActivitiesContainingDescription(keyword));
+    }
+
+    @Benchmark
+    public ActivityList findCalorie() {
+        return find(() -> dayMap.listActivitiesContainingCalorie(500, 520));
+    }
+
+    @Benchmark
+    public ActivityList findAll() {
+        return find(() -> dayMap.listActivitiesContainingAll("a/ " + keyword + " / chicken"));
+    }
+
+    @Benchmark
+    public ActivityList findEither() {
+        return find(() -> dayMap.listActivitiesContainingEither("e/ " + keyword + " / chicken"));
+    }
+
+    /**
+     * Runs a find, treating nothing found as a valid result with an empty last seen list.
+     */
+    private ActivityList find(Find find) {
+        try {
+            find.run();
+        } catch (KeywordNotFoundException expected) {
+            return dayMap.getLastSeenList();
+        }
+        return dayMap.getLastSeenList();
+    }
+}
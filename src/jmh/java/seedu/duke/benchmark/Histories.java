@@ -0,0 +1,60 @@
+package seedu.duke.benchmark;
+
+import seedu.duke.generator.HistoryGenerator;
+import seedu.duke.model.DayMap;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Synthetic histories for the benchmarks, generated by the HistoryGenerator from a fixed seed so that every run
+ * measures the same data.
+ * Each day holds ACTIVITIES_PER_DAY activities, starting from FIRST_DATE.
+ */
+public class Histories {
+    public static final int ACTIVITIES_PER_DAY = 10;
+    public static final LocalDate FIRST_DATE = LocalDate.of(2000, 1, 1);
+    /** Most common food of the generated histories. */
+    public static final String COMMON_WORD = "rice";
+    /** Least common single food of the generated histories. */
+    public static final String RARE_WORD = "durian";
+    private static final long SEED = 42;
+
+    /**
+     * Builds a history of the given number of activities.
+     *
+     * @param numberOfActivities number of activities in the history
+     * @return history with no changed dates left to save
+     */
+    public static DayMap create(int numberOfActivities) {
+        return new HistoryGenerator(SEED).generate(FIRST_DATE, getNumberOfDays(numberOfActivities),
+                ACTIVITIES_PER_DAY);
+    }
+
+    /**
+     * Returns the last date of a history of the given number of activities.
+     *
+     * @param numberOfActivities number of activities in the history
+     * @return last date
+     */
+    public static LocalDate getLastDate(int numberOfActivities) {
+        return FIRST_DATE.plusDays(getNumberOfDays(numberOfActivities) - 1);
+    }
+
+    /**
+     * Writes the history of the given number of activities as the .csv snapshot read by Storage.
+     *
+     * @param numberOfActivities number of activities in the history
+     * @param dataFile path of the snapshot
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void writeSnapshot(int numberOfActivities, Path dataFile) throws IOException {
+        new HistoryGenerator(SEED).write(dataFile, FIRST_DATE, getNumberOfDays(numberOfActivities),
+                ACTIVITIES_PER_DAY);
+    }
+
+    private static int getNumberOfDays(int numberOfActivities) {
+        return Math.max(1, numberOfActivities / ACTIVITIES_PER_DAY);
+    }
+}
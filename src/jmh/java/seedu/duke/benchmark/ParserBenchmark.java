@@ -0,0 +1,39 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.command.Command;
+import seedu.duke.logic.Parser;
+import seedu.duke.ui.Ui;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks turning a line of input into a command.
+ * Parsing does not read the history, so unlike the other benchmarks this one is not run on histories of
+ * different sizes but on the commands typed most often.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    @Param({"add f/ chicken rice c/ 500 d/ 2020-10-11", "add e/ jogging c/ 200", "find d/ rice",
+        "find a/ rice / chicken", "list 2020-10-11", "delete 3", "graph 30"})
+    public String userInput;
+
+    @Setup
+    public void discardOutput() {
+        Ui.useBufferedOutput(true);
+    }
+
+    @Benchmark
+    public Command parseCommand() {
+        return new Parser(userInput).parseCommand();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.Food;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading a saved history on startup and saving the change of a single command.
+ * The history is written once per trial as the .csv snapshot in a temporary folder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StorageBenchmark {
+    private static final String DATA_FILE = "tpdata/tpcsv.csv";
+
+    @Param({"1000", "100000", "1000000"})
+    public int numberOfActivities;
+
+    private Path dataFile;
+    private Storage storage;
+    private DayMap dayMap;
+    private LocalDate lastDate;
+
+    @Setup(Level.Trial)
+    public void writeHistory() throws IOException {
+        Ui.useBufferedOutput(true);
+        dataFile = Files.createTempDirectory("trakcal-benchmark").resolve(DATA_FILE);
+        Histories.writeSnapshot(numberOfActivities, dataFile);
+        lastDate = Histories.getLastDate(numberOfActivities);
+    }
+
+    /**
+     * Loads the history before each iteration of updateFile, emptying its last day so that the day saved by each
+     * call stays the same size.
+     */
+    @Setup(Level.Iteration)
+    public void loadHistory() {
+        storage = new Storage(dataFile.toString());
+        dayMap = new DayMap();
+        storage.loadData(dayMap);
+        dayMap.removeDay(lastDate);
+        dayMap.clearChangedDates();
+    }
+
+    /**
+     * Loads the history as on startup, with only the dates read until a day is needed.
+     */
+    @Benchmark
+    public DayMap loadData() {
+        DayMap loadedMap = new DayMap();
+        new Storage(dataFile.toString()).loadData(loadedMap);
+        return loadedMap;
+    }
+
+    /**
+     * Adds an activity and saves it as the add command does, then waits for it to be written to the disk.
+     */
+    @Benchmark
+    public DayMap updateFile() {
+        if (dayMap.getSizeOfActivityList(lastDate.atStartOfDay()) >= Histories.ACTIVITIES_PER_DAY) {
+            dayMap.removeDay(lastDate);
+        }
+        dayMap.addActivity(lastDate.atStartOfDay(), new Food("rice chicken", 500, lastDate));
+        storage.updateFile(dayMap);
+        storage.flush();
+        return dayMap;
+    }
+}
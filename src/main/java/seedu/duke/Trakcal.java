@@ -1,11 +1,18 @@
 package seedu.duke;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+import seedu.duke.command.ByeCommand;
 import seedu.duke.command.Command;
+import seedu.duke.logic.LatencyStats;
 import seedu.duke.logic.Parser;
 import seedu.duke.model.DayMap;
 import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
 import seedu.duke.userprofile.AskUserProfileQns;
 import seedu.duke.userprofile.InitialiseUserProfile;
 import seedu.duke.userprofile.CheckNewUser;
@@ -15,8 +22,12 @@ import java.util.Scanner;
 
 import static seedu.duke.logic.Parser.CHAIN_SEPARATOR;
 import static seedu.duke.logic.Parser.SPACE;
+import static seedu.duke.ui.Ui.displayBatchSummary;
 import static seedu.duke.ui.Ui.displayNotSavedMessage;
 import static seedu.duke.ui.Ui.displayWelcomeMessage;
+import static seedu.duke.ui.ExceptionMessages.displayBatchFileErrorMessage;
+import static seedu.duke.ui.ExceptionMessages.displayIoExceptionMessage;
+import static seedu.duke.ui.ExceptionMessages.displayLoadDataErrorMessage;
 import static seedu.duke.ui.ExceptionMessages.displayParserNullPointerExceptionMessage;
 
 /**
@@ -25,6 +36,13 @@ import static seedu.duke.ui.ExceptionMessages.displayParserNullPointerExceptionM
  */
 public class Trakcal {
 
+    public static final String BINARY_SNAPSHOT_OPTION = "--binary-snapshot";
+    public static final String QUIET_OPTION = "--quiet";
+    public static final String BATCH_OPTION = "--batch";
+    public static final String COMMIT_EVERY_OPTION = "--commit-every";
+    public static final String FLUSH_DELAY_OPTION = "--flush-delay";
+    public static final String STATS_FILE_OPTION = "--stats-file";
+
     public static DayMap calList = new DayMap();
     public static InitialiseUserProfile profile;
 
@@ -33,15 +51,55 @@ public class Trakcal {
 
     /**
      * Main function.
-     * @param args args
+     * @param args args, where --binary-snapshot keeps a memory-mapped snapshot of the data for faster startup,
+     *             --quiet discards all output for scripted use, --batch FILE runs the commands in FILE instead of
+     *             reading them from the user, --commit-every N saves the changes of a batch every N commands,
+     *             --flush-delay MILLIS sets the longest time a change waits before it is written to the disk
+     *             and --stats-file FILE writes the latency of the commands run into FILE on exit
      */
     public static void main(String[] args) {
+        boolean isQuiet = false;
+        String batchFilePath = null;
+        int commitInterval = 0;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(BINARY_SNAPSHOT_OPTION)) {
+                storage.setBinarySnapshotEnabled(true);
+            } else if (args[i].equals(QUIET_OPTION)) {
+                isQuiet = true;
+            } else if (args[i].equals(BATCH_OPTION) && i + 1 < args.length) {
+                batchFilePath = args[++i];
+            } else if (args[i].equals(COMMIT_EVERY_OPTION) && i + 1 < args.length) {
+                try {
+                    commitInterval = Math.max(0, Integer.parseInt(args[++i]));
+                } catch (NumberFormatException e) {
+                    commitInterval = 0;
+                }
+            } else if (args[i].equals(FLUSH_DELAY_OPTION) && i + 1 < args.length) {
+                try {
+                    storage.setFlushDelay(Math.max(0, Long.parseLong(args[++i])));
+                } catch (NumberFormatException e) {
+                    storage.setFlushDelay(Storage.DEFAULT_FLUSH_DELAY_MILLIS);
+                }
+            } else if (args[i].equals(STATS_FILE_OPTION) && i + 1 < args.length) {
+                LatencyStats.setStatsFile(Path.of(args[++i]));
+            }
+        }
+        if (batchFilePath != null) {
+            Ui.useBufferedOutput(true);
+            storage.loadData(calList);
+            if (!CheckNewUser.isNewUser()) {
+                profile = AskUserProfileQns.loadProfile();
+            }
+            runBatch(batchFilePath, commitInterval, isQuiet);
+            return;
+        }
+        Ui.useBufferedOutput(isQuiet);
         displayWelcomeMessage();
         System.out.println();
         try {
             storage.loadData(calList);
         } catch (StringIndexOutOfBoundsException e) {
-            System.out.println("here");
+            displayLoadDataErrorMessage();
         }
         if (CheckNewUser.isNewUser()) {
             profile = AskUserProfileQns.createNewProfile();
@@ -53,27 +111,113 @@ public class Trakcal {
 
     /**
      * Main running loop.
+     * Everything a command prints is buffered and written out once after the command, and each command is timed
+     * for the stats command, with writing out its output counted as rendering.
      */
     public static void run()  {
-        while (in.hasNextLine()) {
-            String userInput = in.nextLine();
-            Parser parser = new Parser(userInput);
-            try {
-                Command cmd;
-                if (userInput.contains(CHAIN_SEPARATOR)) {
-                    parser.prepareChaining(userInput);
-                } else {
-                    cmd = parser.parseCommand();
-                    executeCmd(cmd);
-                    storage.updateFile(calList);
+        Ui.flushOutput();
+        try {
+            while (in.hasNextLine()) {
+                String userInput = in.nextLine();
+                LatencyStats.startCommand();
+                Parser parser = new Parser(userInput);
+                try {
+                    Command cmd;
+                    if (userInput.contains(CHAIN_SEPARATOR)) {
+                        parser.prepareChaining(userInput);
+                    } else {
+                        cmd = parser.parseCommand();
+                        executeCmd(cmd);
+                        storage.updateFile(calList);
+                    }
+                    System.out.println();
+                } catch (NullPointerException e) {
+                    displayParserNullPointerExceptionMessage();
+                } catch (IndexOutOfBoundsException e) {
+                    displayNotSavedMessage();
                 }
-                System.out.println();
-            } catch (NullPointerException e) {
-                displayParserNullPointerExceptionMessage();
-            } catch (IndexOutOfBoundsException e) {
-                displayNotSavedMessage();
+                LatencyStats.startPhase(LatencyStats.RENDER);
+                Ui.flushOutput();
+                LatencyStats.endPhase();
+                String commandWord = userInput.contains(CHAIN_SEPARATOR) ? LatencyStats.CHAIN
+                        : parser.getCommandWord();
+                LatencyStats.endCommand(commandWord);
             }
+        } finally {
+            Ui.flushOutput();
+        }
+    }
+
+    /**
+     * Saves the changes left by a batch and goes back to saving the changes of each command as it is run.
+     */
+    private static void saveBatch() {
+        storage.commit(calList);
+        storage.flush();
+        storage.setDeferringUpdates(false);
+    }
+
+    /**
+     * Runs the commands in a file, one per line, in a single pass without printing what they do.
+     * The changes are saved every commitInterval commands, or only once at the end when it is 0,
+     * and a summary of the commands run and their throughput is printed at the end.
+     * @param batchFilePath path of the file of commands
+     * @param commitInterval number of commands between saves, 0 to save only at the end
+     * @param isQuiet whether the summary should be discarded too
+     */
+    public static void runBatch(String batchFilePath, int commitInterval, boolean isQuiet) {
+        int commandCount = 0;
+        int failedCount = 0;
+        boolean isFileRead = true;
+        storage.setDeferringUpdates(true);
+        long startTime = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(batchFilePath))) {
+            String userInput;
+            while ((userInput = reader.readLine()) != null) {
+                if (userInput.isBlank()) {
+                    continue;
+                }
+                LatencyStats.startCommand();
+                Parser parser = new Parser(userInput);
+                String commandWord = userInput.contains(CHAIN_SEPARATOR) ? LatencyStats.CHAIN
+                        : parser.getCommandWord();
+                try {
+                    if (userInput.contains(CHAIN_SEPARATOR)) {
+                        parser.prepareChaining(userInput);
+                    } else {
+                        Command cmd = parser.parseCommand();
+                        if (cmd instanceof ByeCommand) {
+                            break;
+                        }
+                        executeCmd(cmd);
+                    }
+                } catch (NullPointerException | IndexOutOfBoundsException e) {
+                    failedCount++;
+                }
+                LatencyStats.endCommand(commandWord);
+                commandCount++;
+                if (commitInterval > 0 && commandCount % commitInterval == 0) {
+                    storage.commit(calList);
+                }
+            }
+        } catch (IOException e) {
+            isFileRead = false;
+        }
+        saveBatch();
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        Ui.useBufferedOutput(isQuiet);
+        if (isFileRead) {
+            displayBatchSummary(commandCount, failedCount, elapsedNanos);
+        } else {
+            displayBatchFileErrorMessage(batchFilePath);
+        }
+        try {
+            LatencyStats.writeStatsFile();
+        } catch (IOException e) {
+            displayIoExceptionMessage();
         }
+        Ui.flushOutput();
     }
 
     /**
@@ -5,7 +5,8 @@ import seedu.duke.model.Exercise;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-import static seedu.duke.ui.Ui.displaySavedMessage;
+import static seedu.duke.ui.Ui.displayActivity;
+import static seedu.duke.ui.Ui.displayAddMessage;
 import static seedu.duke.ui.Ui.drawDivider;
 
 /**
@@ -14,6 +15,7 @@ import static seedu.duke.ui.Ui.drawDivider;
 public class AddExerciseCommand extends Command {
     protected Exercise exercise;
     protected LocalDate date;
+    protected boolean isFromFile;
 
     /**
      * Adds exercise and it's respective calories.
@@ -23,8 +25,9 @@ public class AddExerciseCommand extends Command {
      * @param isFromFile if data is from csv file
      */
     public AddExerciseCommand(String description, int calories, boolean isFromFile) {
-        this.exercise = new Exercise(description, calories, LocalDate.now(), isFromFile);
+        this.exercise = new Exercise(description, calories, LocalDate.now());
         this.date = LocalDateTime.now().toLocalDate();
+        this.isFromFile = isFromFile;
         this.canBeChained = true;
     }
 
@@ -37,16 +40,22 @@ public class AddExerciseCommand extends Command {
      * @param date date of activity
      */
     public AddExerciseCommand(String description, int calories, boolean isFromFile, LocalDate date) {
-        this.exercise = new Exercise(description, calories, date, isFromFile);
+        this.exercise = new Exercise(description, calories, date);
         this.date = date;
+        this.isFromFile = isFromFile;
         this.canBeChained = true;
     }
 
     @Override
     public void execute() {
+        // If the activity added is not from decoding the file, print confirmation message
+        if (!isFromFile) {
+            displayAddMessage();
+            displayActivity(exercise);
+        }
         dayMap.addActivity(date.atStartOfDay(), exercise);
         System.out.println();
-        displaySavedMessage();
+        displaySavedMessageOutsideChain();
         drawDivider();
     }
 }
@@ -5,7 +5,8 @@ import seedu.duke.model.Food;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-import static seedu.duke.ui.Ui.displaySavedMessage;
+import static seedu.duke.ui.Ui.displayActivity;
+import static seedu.duke.ui.Ui.displayAddMessage;
 import static seedu.duke.ui.Ui.drawDivider;
 
 /**
@@ -14,6 +15,7 @@ import static seedu.duke.ui.Ui.drawDivider;
 public class AddFoodCommand extends Command {
     protected Food food;
     protected LocalDate date;
+    protected boolean isFromFile;
 
     /**
      * Adds food and it's respective calories.
@@ -23,8 +25,9 @@ public class AddFoodCommand extends Command {
      * @param isFromFile if data is from csv file
      */
     public AddFoodCommand(String description, int calories, boolean isFromFile) {
-        this.food = new Food(description, calories, LocalDate.now(),isFromFile);
+        this.food = new Food(description, calories, LocalDate.now());
         this.date = LocalDateTime.now().toLocalDate();
+        this.isFromFile = isFromFile;
         this.canBeChained = true;
     }
 
@@ -37,16 +40,22 @@ public class AddFoodCommand extends Command {
      * @param date date of activity
      */
     public AddFoodCommand(String description, int calories, boolean isFromFile, LocalDate date) {
-        this.food = new Food(description, calories, date, isFromFile);
+        this.food = new Food(description, calories, date);
         this.date = date;
+        this.isFromFile = isFromFile;
         this.canBeChained = true;
     }
 
     @Override
     public void execute() {
+        // If the activity added is not from decoding the file, print confirmation message
+        if (!isFromFile) {
+            displayAddMessage();
+            displayActivity(food);
+        }
         dayMap.addActivity(date.atStartOfDay(), food);
         System.out.println();
-        displaySavedMessage();
+        displaySavedMessageOutsideChain();
         drawDivider();
     }
 }
@@ -1,4 +1,29 @@
 package seedu.duke.command;
 
+import java.util.List;
+
+/**
+ * Adds the activities of a shortcut set.
+ * The set is read when the command is prepared, but its activities are only added when the command is executed,
+ * so preparing the command never changes the data and the adds are saved once after the command.
+ */
 public class AddSetCommand extends Command {
+    private final List<Command> addCommands;
+
+    /**
+     * Constructor of class AddSetCommand.
+     *
+     * @param addCommands add command of each activity of the set
+     */
+    public AddSetCommand(List<Command> addCommands) {
+        this.addCommands = addCommands;
+    }
+
+    @Override
+    public void execute() {
+        for (Command addCommand : addCommands) {
+            addCommand.setData(dayMap);
+            addCommand.execute();
+        }
+    }
 }
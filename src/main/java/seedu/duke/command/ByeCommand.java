@@ -1,9 +1,18 @@
 package seedu.duke.command;
 
+import seedu.duke.Trakcal;
+import seedu.duke.logic.LatencyStats;
+
+import java.io.IOException;
+
+import static seedu.duke.ui.ExceptionMessages.displayIoExceptionMessage;
 import static seedu.duke.ui.Ui.displayByeMessage;
+import static seedu.duke.ui.Ui.flushOutput;
 
 /**
  * Bye command.
+ * Changes still waiting to be written are flushed to the disk before the program exits, and the latency stats are
+ * written to their file if one was given.
  */
 public class ByeCommand extends Command {
     public ByeCommand() {
@@ -11,7 +20,14 @@ public class ByeCommand extends Command {
 
     @Override
     public void execute() {
+        Trakcal.storage.flush();
+        try {
+            LatencyStats.writeStatsFile();
+        } catch (IOException e) {
+            displayIoExceptionMessage();
+        }
         displayByeMessage();
+        flushOutput();
         System.exit(0);
     }
 }
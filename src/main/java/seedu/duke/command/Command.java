@@ -2,12 +2,15 @@ package seedu.duke.command;
 
 import seedu.duke.model.DayMap;
 
+import static seedu.duke.ui.Ui.displaySavedMessage;
+
 /**
  * Execute command.
  */
 public class Command {
     protected DayMap dayMap;
     protected boolean canBeChained = false;
+    protected boolean hasFailed = false;
 
     /**
      * This method is to be override by the specific commands.
@@ -25,6 +28,16 @@ public class Command {
         this.dayMap = dayMap;
     }
 
+    /**
+     * Tells the user that the changes of the command have been saved, unless the command is part of a chain,
+     * whose changes are only saved, and confirmed once, after the whole chain has been carried out.
+     */
+    protected void displaySavedMessageOutsideChain() {
+        if (!dayMap.isInTransaction()) {
+            displaySavedMessage();
+        }
+    }
+
     /**
      * Checks if command can be chained.
      *
@@ -33,4 +46,13 @@ public class Command {
     public boolean getCanBeChained() {
         return canBeChained;
     }
+
+    /**
+     * Checks if the command could not be carried out, so that the chain of commands it is in can be undone.
+     *
+     * @return true or false
+     */
+    public boolean hasFailed() {
+        return hasFailed;
+    }
 }
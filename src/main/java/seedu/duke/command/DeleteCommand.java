@@ -5,7 +5,7 @@ import seedu.duke.model.Activity;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-import static seedu.duke.ui.Ui.displaySavedMessage;
+import static seedu.duke.ui.Ui.displayActivityRemovedMessage;
 
 /**
  * Initialises Command to delete activities.
@@ -44,17 +44,19 @@ public class DeleteCommand extends Command {
     public void execute() {
 
         if (index == -1) {
-            dayMap.getLastSeenList().clearList();
-            dayMap.getHashMap().remove(this.date);
+            dayMap.deleteAllActivities(this.date);
             return;
         } else {
             try {
 
                 dayMap.deleteActivity(index);
             } catch (IndexOutOfBoundsException e) {
+                hasFailed = true;
                 System.out.println("Invalid index!");
+                return;
             }
         }
-        displaySavedMessage();
+        displayActivityRemovedMessage();
+        displaySavedMessageOutsideChain();
     }
 }
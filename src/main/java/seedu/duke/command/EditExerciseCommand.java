@@ -5,7 +5,8 @@ import seedu.duke.model.Exercise;
 import java.time.LocalDate;
 
 import static seedu.duke.ui.ExceptionMessages.displayEditIndexOutOfBoundsExceptionMessage;
-import static seedu.duke.ui.Ui.displaySavedMessage;
+import static seedu.duke.ui.Ui.displayActivity;
+import static seedu.duke.ui.Ui.displayEditMessage;
 import static seedu.duke.ui.Ui.drawDivider;
 
 /**
@@ -33,14 +34,17 @@ public class EditExerciseCommand extends Command {
 
     @Override
     public void execute() {
+        displayEditMessage();
         try {
             LocalDate dateOfActivityToBeEdited = dayMap.getDateFromLastSeenListAtIndex(index);
-            this.exercise = new Exercise(description, calories,dateOfActivityToBeEdited, false);
+            this.exercise = new Exercise(description, calories,dateOfActivityToBeEdited);
             dayMap.insertActivity(index, exercise);
+            displayActivity(exercise);
             System.out.println();
-            displaySavedMessage();
+            displaySavedMessageOutsideChain();
             drawDivider();
         } catch (IndexOutOfBoundsException e) {
+            hasFailed = true;
             displayEditIndexOutOfBoundsExceptionMessage();
         }
     }
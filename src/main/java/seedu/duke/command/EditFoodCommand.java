@@ -6,7 +6,8 @@ import seedu.duke.model.Food;
 import java.time.LocalDate;
 
 import static seedu.duke.ui.ExceptionMessages.displayEditIndexOutOfBoundsExceptionMessage;
-import static seedu.duke.ui.Ui.displaySavedMessage;
+import static seedu.duke.ui.Ui.displayActivity;
+import static seedu.duke.ui.Ui.displayEditMessage;
 import static seedu.duke.ui.Ui.drawDivider;
 
 
@@ -36,16 +37,19 @@ public class EditFoodCommand extends Command {
 
     @Override
     public void execute() {
+        displayEditMessage();
         try {
             ActivityList lastSeenList = dayMap.getLastSeenList();
             LocalDate dateOfActivityToBeEdited = lastSeenList.getDateOfActivityAtIndex(index);
-            this.food = new Food(description, calories, dateOfActivityToBeEdited, false);
+            this.food = new Food(description, calories, dateOfActivityToBeEdited);
             dayMap.insertActivity(index, food);
+            displayActivity(food);
 
             System.out.println();
-            displaySavedMessage();
+            displaySavedMessageOutsideChain();
             drawDivider();
         } catch (IndexOutOfBoundsException e) {
+            hasFailed = true;
             displayEditIndexOutOfBoundsExceptionMessage();
         }
     }
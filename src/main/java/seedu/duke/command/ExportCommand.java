@@ -0,0 +1,41 @@
+package seedu.duke.command;
+
+import seedu.duke.storage.ActivityExporter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static seedu.duke.ui.ExceptionMessages.displayExportFileErrorMessage;
+
+/**
+ * Exports activities to a CSV or TSV file.
+ */
+public class ExportCommand extends Command {
+    protected String fileName;
+    protected LocalDate startDate;
+    protected LocalDate endDate;
+
+    /**
+     * Exports the activities from startDate to endDate inclusive.
+     *
+     * @param fileName path of the file, relative to the current folder
+     * @param startDate first date to export
+     * @param endDate last date to export
+     */
+    public ExportCommand(String fileName, LocalDate startDate, LocalDate endDate) {
+        this.fileName = fileName;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public void execute() {
+        try {
+            int numberOfActivities = new ActivityExporter(Path.of(fileName)).write(dayMap, startDate, endDate);
+            System.out.println("Exported " + numberOfActivities + " activities to " + fileName);
+        } catch (IOException e) {
+            displayExportFileErrorMessage(fileName);
+        }
+    }
+}
@@ -8,29 +8,40 @@ import java.time.LocalDateTime;
 /**
  * Initialises Command to find calorie count.
  */
-public class  FindCalorieCommand extends Command {
+public class  FindCalorieCommand extends FindCommand {
     protected LocalDate date;
-    protected String calorie;
+    protected int minCalories;
+    protected int maxCalories;
 
     /**
      * Find matching results based on calorie input.
      *
      * @param calorie calories to search
      */
-    public FindCalorieCommand(String calorie) {
-        this.date = LocalDateTime.now().toLocalDate();
-        this.calorie = calorie;
+    public FindCalorieCommand(int calorie) {
+        this(calorie, calorie);
+    }
 
+    /**
+     * Find matching results with calories within a range.
+     *
+     * @param minCalories smallest calories to search
+     * @param maxCalories largest calories to search
+     */
+    public FindCalorieCommand(int minCalories, int maxCalories) {
+        this.date = LocalDateTime.now().toLocalDate();
+        this.minCalories = minCalories;
+        this.maxCalories = maxCalories;
     }
 
     @Override
     public void execute() {
         try {
-            dayMap.listActivitiesContainingCalorie(calorie);
+            dayMap.listActivitiesContainingCalorie(minCalories, maxCalories);
+            drawResults();
         } catch (KeywordNotFoundException e) {
             System.out.println("No results were found!");
         }
 
     }
 }
-
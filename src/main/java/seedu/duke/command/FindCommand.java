@@ -0,0 +1,33 @@
+package seedu.duke.command;
+
+import seedu.duke.model.FindDrawer;
+
+/**
+ * Base of the find commands, which show every result or a single page of results.
+ */
+public class FindCommand extends Command {
+    public static final int ALL_PAGES = 0;
+
+    protected int page = ALL_PAGES;
+
+    /**
+     * Sets the page of results to be shown.
+     *
+     * @param page page number starting from 1, or ALL_PAGES to show every result
+     */
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    /**
+     * Draws the results in the last seen list.
+     */
+    protected void drawResults() {
+        FindDrawer findDrawer = new FindDrawer(dayMap.getLastSeenList());
+        if (page == ALL_PAGES) {
+            findDrawer.printList();
+        } else {
+            findDrawer.printPage(page);
+        }
+    }
+}
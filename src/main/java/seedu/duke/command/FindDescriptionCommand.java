@@ -1,6 +1,5 @@
 package seedu.duke.command;
 
-import seedu.duke.model.FindDrawer;
 import seedu.duke.exception.KeywordNotFoundException;
 
 import java.time.LocalDate;
@@ -9,7 +8,7 @@ import java.time.LocalDateTime;
 /**
  * Initialises Command to find activity description.
  */
-public class FindDescriptionCommand extends Command {
+public class FindDescriptionCommand extends FindCommand {
     protected LocalDate date;
     protected String description;
 
@@ -28,8 +27,7 @@ public class FindDescriptionCommand extends Command {
     public void execute() {
         try {
             dayMap.listActivitiesContainingDescription(description);
-            FindDrawer findDrawer = new FindDrawer(dayMap.getLastSeenList());
-            findDrawer.printList();
+            drawResults();
         } catch (KeywordNotFoundException e) {
             System.out.println("No results were found!");
         }
@@ -1,6 +1,5 @@
 package seedu.duke.command;
 
-import seedu.duke.model.FindDrawer;
 import seedu.duke.exception.KeywordNotFoundException;
 
 import java.time.LocalDate;
@@ -9,7 +8,7 @@ import java.time.LocalDateTime;
 /**
  * Initialises Command to find all description tags.
  */
-public class FindEitherCommand extends Command {
+public class FindEitherCommand extends FindCommand {
     protected LocalDate date;
     protected String userInput;
 
@@ -27,8 +26,7 @@ public class FindEitherCommand extends Command {
     public void execute() {
         try {
             dayMap.listActivitiesContainingEither(userInput);
-            FindDrawer findDrawer = new FindDrawer(dayMap.getLastSeenList());
-            findDrawer.printList();
+            drawResults();
         } catch (KeywordNotFoundException e) {
             System.out.println("No results were found!");
         }
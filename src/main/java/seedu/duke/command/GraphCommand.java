@@ -2,10 +2,11 @@ package seedu.duke.command;
 
 import seedu.duke.model.DayMap;
 import seedu.duke.Trakcal;
+import seedu.duke.logic.LatencyStats;
 import seedu.duke.model.GraphDrawing;
 import seedu.duke.model.GraphProperty;
 
-import java.util.HashMap;
+import java.time.LocalDate;
 
 /**
  * Displays the graph of illustrating the net calorie gain/loss throughout the period.
@@ -13,17 +14,52 @@ import java.util.HashMap;
 public class GraphCommand extends Command {
     public static final int MAXIMUM_DAYS = 7;
 
+    protected int numberOfDays = MAXIMUM_DAYS;
+    protected LocalDate startDate;
+    protected LocalDate endDate;
+
     public GraphCommand() {
     }
 
+    /**
+     * Graphs the latest days with entries.
+     *
+     * @param numberOfDays number of days with entries to graph
+     */
+    public GraphCommand(int numberOfDays) {
+        this.numberOfDays = numberOfDays;
+    }
+
+    /**
+     * Graphs the days from startDate to endDate inclusive.
+     *
+     * @param startDate first date to graph
+     * @param endDate last date to graph
+     */
+    public GraphCommand(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
     boolean isMapValid(DayMap dayMap) {
         return dayMap != null;
     }
 
     @Override
     public void execute() {
-        GraphProperty graphProperties = new GraphProperty(dayMap, (int) Trakcal.profile.getCalories());
+        int targetCalories = (int) Trakcal.profile.getCalories();
+        GraphProperty graphProperties;
+        if (startDate == null) {
+            graphProperties = new GraphProperty(dayMap, targetCalories, numberOfDays);
+        } else if (dayMap.getDatesBetween(startDate, endDate).isEmpty()) {
+            System.out.println("There is no data from " + startDate.toString() + " to " + endDate.toString());
+            return;
+        } else {
+            graphProperties = new GraphProperty(dayMap, targetCalories, startDate, endDate);
+        }
         graphProperties.setProperties();
+        LatencyStats.startPhase(LatencyStats.RENDER);
         System.out.println(new GraphDrawing(graphProperties).drawGraph());
+        LatencyStats.endPhase();
     }
 }
@@ -0,0 +1,52 @@
+package seedu.duke.command;
+
+import seedu.duke.model.Activity;
+import seedu.duke.storage.ActivityImporter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static seedu.duke.ui.ExceptionMessages.displayImportFileErrorMessage;
+import static seedu.duke.ui.Ui.displayImportMessage;
+
+/**
+ * Imports activities from a CSV or TSV file of another tracker.
+ * The activities are added date by date, so they are saved together after the command.
+ */
+public class ImportCommand extends Command {
+    protected String fileName;
+
+    /**
+     * Imports the activities in the given file.
+     *
+     * @param fileName path of the file, relative to the current folder
+     */
+    public ImportCommand(String fileName) {
+        this.fileName = fileName;
+    }
+
+    @Override
+    public void execute() {
+        ActivityImporter importer = new ActivityImporter(Path.of(fileName));
+        try {
+            importer.read();
+        } catch (IOException e) {
+            displayImportFileErrorMessage(fileName);
+            return;
+        }
+        TreeMap<LocalDate, List<Activity>> activitiesByDate = new TreeMap<>();
+        for (Activity activity : importer.getActivities()) {
+            activitiesByDate.computeIfAbsent(activity.getActivityDate(), date -> new ArrayList<>()).add(activity);
+        }
+        for (Map.Entry<LocalDate, List<Activity>> activitiesOfDate : activitiesByDate.entrySet()) {
+            dayMap.addActivities(activitiesOfDate.getKey(), activitiesOfDate.getValue());
+        }
+        displayImportMessage(importer.getActivities().size(), activitiesByDate.size(),
+                importer.getInvalidLineNumbers());
+    }
+}
@@ -1,18 +1,21 @@
 package seedu.duke.command;
 
+import seedu.duke.exception.ListNotFoundException;
+import seedu.duke.model.FindDrawer;
 import seedu.duke.model.ListDrawer;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
- * Prints the list of activities for the given day.
+ * Prints the list of activities for the given day, or for every day in the given range of days.
  * If no date attribute was given by the user, prints the list of activities for today.
  * Prints error message if there is no activities for the given day.
  */
 public class ListCommand extends Command {
 
     protected LocalDate date;
+    protected LocalDate endDate;
 
     public ListCommand(LocalDate date) {
         this.date = date;
@@ -26,9 +29,25 @@ public class ListCommand extends Command {
 
     }
 
+    /**
+     * Lists the activities of every day from date to endDate inclusive.
+     *
+     * @param date first date of the range
+     * @param endDate last date of the range
+     */
+    public ListCommand(LocalDate date, LocalDate endDate) {
+        this.date = date;
+        this.endDate = endDate;
+        this.canBeChained = true;
+    }
+
 
     @Override
     public void execute() {
+        if (endDate != null) {
+            executeForRange();
+            return;
+        }
         try {
             dayMap.setLastSeenList(dayMap.getActivityList(date.atStartOfDay()));
 
@@ -39,4 +58,17 @@ public class ListCommand extends Command {
         }
 
     }
+
+    /**
+     * Prints the activities of the range of days together with their dates, in date order.
+     */
+    private void executeForRange() {
+        try {
+            dayMap.listActivitiesBetween(date, endDate);
+            FindDrawer findDrawer = new FindDrawer(dayMap.getLastSeenList());
+            findDrawer.printList();
+        } catch (ListNotFoundException e) {
+            System.out.println("There is no data from " + date.toString() + " to " + endDate.toString());
+        }
+    }
 }
@@ -24,8 +24,10 @@ public class MoveActivityCommand extends Command {
         try {
             dayMap.move(indexToBeMovedFrom, indexToBeInsertedBelow);
         } catch (IndexOutOfBoundsException e) {
+            hasFailed = true;
             displayStringIndexOutOfBoundsExceptionMessage();
         } catch (ListNotFoundException e) {
+            hasFailed = true;
             displayListNotFoundExceptionMessage();
         }
 
@@ -0,0 +1,17 @@
+package seedu.duke.command;
+
+import seedu.duke.logic.LatencyStats;
+import seedu.duke.ui.Ui;
+
+/**
+ * Stats command, which prints the latency of each phase of the commands run so far.
+ */
+public class StatsCommand extends Command {
+    public StatsCommand() {
+    }
+
+    @Override
+    public void execute() {
+        LatencyStats.print(Ui.getOutput());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.duke.command;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Displays the net calories and the average net calories per day over a week, a month or a range of days.
+ */
+public class SummaryCommand extends Command {
+    protected LocalDate startDate;
+    protected LocalDate endDate;
+
+    /**
+     * Summarises the days from startDate to endDate inclusive.
+     *
+     * @param startDate first date of the summary
+     * @param endDate last date of the summary
+     */
+    public SummaryCommand(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.canBeChained = true;
+    }
+
+    /**
+     * Summarises the current week, from Monday to Sunday.
+     *
+     * @return SummaryCommand of the current week
+     */
+    public static SummaryCommand forCurrentWeek() {
+        LocalDate today = LocalDateTime.now().toLocalDate();
+        return new SummaryCommand(today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)));
+    }
+
+    /**
+     * Summarises the current month.
+     *
+     * @return SummaryCommand of the current month
+     */
+    public static SummaryCommand forCurrentMonth() {
+        LocalDate today = LocalDateTime.now().toLocalDate();
+        return new SummaryCommand(today.withDayOfMonth(1), today.with(TemporalAdjusters.lastDayOfMonth()));
+    }
+
+    @Override
+    public void execute() {
+        long netCalories = dayMap.getNetCaloriesBetween(startDate, endDate);
+        int numberOfDays = dayMap.getNumberOfDaysBetween(startDate, endDate);
+        System.out.println("Summary from " + startDate.toString() + " to " + endDate.toString());
+        if (numberOfDays == 0) {
+            System.out.println("There is no data for this period");
+            return;
+        }
+        System.out.println("Net calories: " + netCalories + " kcal over " + numberOfDays + " days with entries");
+        System.out.println("Average net calories: " + Math.round((double) netCalories / numberOfDays)
+                + " kcal per day");
+    }
+}
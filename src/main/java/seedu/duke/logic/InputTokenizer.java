@@ -0,0 +1,116 @@
+package seedu.duke.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits user input in single passes over its characters, without regular expressions or copies of the input
+ * other than the parts returned.
+ * The tags of a command, f/ e/ c/ d/ and a/, are all found in one scan and only count at the start of a word,
+ * so a description such as mac/cheese is not mistaken for a tag.
+ */
+public class InputTokenizer {
+    public static final int FOOD_TAG = 0;
+    public static final int EXERCISE_TAG = 1;
+    public static final int CALORIE_TAG = 2;
+    public static final int DATE_TAG = 3;
+    public static final int ALL_TAG = 4;
+    public static final int NOT_FOUND = -1;
+
+    private static final String TAG_LETTERS = "fecda";
+    private static final char TAG_END = '/';
+    private static final char SPACE = ' ';
+
+    /**
+     * Trims the input like String.trim and collapses every run of spaces into a single space.
+     * Input that is already in this form is returned as it is.
+     *
+     * @param input input to normalise
+     * @return input with single spaces
+     */
+    public static String normaliseSpaces(String input) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= SPACE) {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= SPACE) {
+            end--;
+        }
+        int doubleSpaceIndex = input.indexOf("  ", start);
+        if (doubleSpaceIndex < 0 || doubleSpaceIndex + 1 >= end) {
+            return input.substring(start, end);
+        }
+        StringBuilder normalised = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c != SPACE || input.charAt(i - 1) != SPACE) {
+                normalised.append(c);
+            }
+        }
+        return normalised.toString();
+    }
+
+    /**
+     * Finds the first f/, e/, c/, d/ and a/ tag of the input in a single scan.
+     *
+     * @param input input to scan
+     * @return index of each tag, at the position of its constant such as CALORIE_TAG, or NOT_FOUND
+     */
+    public static int[] findTags(String input) {
+        int[] tagIndexes = new int[TAG_LETTERS.length()];
+        Arrays.fill(tagIndexes, NOT_FOUND);
+        for (int i = 0; i + 1 < input.length(); i++) {
+            if (input.charAt(i + 1) != TAG_END || (i > 0 && input.charAt(i - 1) != SPACE)) {
+                continue;
+            }
+            int tag = TAG_LETTERS.indexOf(input.charAt(i));
+            if (tag >= 0 && tagIndexes[tag] == NOT_FOUND) {
+                tagIndexes[tag] = i;
+            }
+        }
+        return tagIndexes;
+    }
+
+    /**
+     * Finds an option such as --page that is followed by a single value at the end of the input, so that the
+     * option written anywhere else, such as inside a description, is left as part of the input.
+     *
+     * @param input input with single spaces
+     * @param option option to find
+     * @return index of the option, or NOT_FOUND if the input does not end with the option and its value
+     */
+    public static int findTrailingOption(String input, String option) {
+        int valueIndex = input.lastIndexOf(SPACE) + 1;
+        int optionIndex = valueIndex - 1 - option.length();
+        if (valueIndex == 0 || optionIndex < 1 || input.charAt(optionIndex - 1) != SPACE
+                || !input.startsWith(option, optionIndex)) {
+            return NOT_FOUND;
+        }
+        return optionIndex;
+    }
+
+    /**
+     * Splits chained input into its commands, dropping the empty command after a trailing separator.
+     *
+     * @param input chained input
+     * @param separator separator between the commands
+     * @return trimmed commands, in order
+     */
+    public static List<String> splitChain(String input, String separator) {
+        List<String> commands = new ArrayList<>();
+        int start = 0;
+        int separatorIndex = input.indexOf(separator);
+        while (separatorIndex >= 0) {
+            commands.add(input.substring(start, separatorIndex).trim());
+            start = separatorIndex + separator.length();
+            separatorIndex = input.indexOf(separator, start);
+        }
+        String lastCommand = input.substring(start).trim();
+        if (!lastCommand.isEmpty()) {
+            commands.add(lastCommand);
+        }
+        return commands;
+    }
+}
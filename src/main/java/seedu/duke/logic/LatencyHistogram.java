@@ -0,0 +1,93 @@
+package seedu.duke.logic;
+
+/**
+ * Histogram of latencies in nanoseconds with fixed log-linear buckets, in the style of HdrHistogram.
+ * Every power of two is split into SUB_BUCKETS equal buckets, so a percentile read from the histogram is within
+ * one eighth of the recorded value, and recording a value takes a few shifts and an array increment.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUMBER_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[NUMBER_OF_BUCKETS];
+    private long totalCount;
+    private long maxValue;
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos latency in nanoseconds, counted as 0 if negative
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[getBucket(value)]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, value);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return number of latencies recorded
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the largest latency recorded, exactly.
+     *
+     * @return largest latency in nanoseconds, 0 if none was recorded
+     */
+    public long getMax() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the latency that the given percentage of the recorded latencies are at or below.
+     * The value is the upper bound of the bucket the percentile falls in, but never more than the largest latency.
+     *
+     * @param percentile percentage from 0 to 100
+     * @return latency in nanoseconds, 0 if none was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long count = 0;
+        for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+            count += counts[bucket];
+            if (count >= targetCount) {
+                return Math.min(getBucketUpperBound(bucket), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Returns the bucket of a value. Values below SUB_BUCKETS have a bucket each, larger values share a bucket
+     * with the values that agree with them in their highest SUB_BUCKET_BITS + 1 bits.
+     */
+    static int getBucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value of a bucket.
+     */
+    static long getBucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.duke.logic;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Times the phases of every command run on the input thread and keeps the timings in a LatencyHistogram for each
+ * command word and phase.
+ * The parser, the drawers and Storage mark the phases they run, and the time of the command outside of these is
+ * counted as execute. A phase started inside another, such as the saves of an addset that runs while it is being
+ * parsed, pauses the outer phase so that no time is counted twice.
+ */
+public class LatencyStats {
+    public static final int PARSE = 0;
+    public static final int EXECUTE = 1;
+    public static final int RENDER = 2;
+    public static final int SAVE = 3;
+    public static final int TOTAL = 4;
+    public static final String CHAIN = "chain";
+    private static final String[] PHASE_NAMES = {"parse", "execute", "render", "save", "total"};
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final int MAXIMUM_DEPTH = 16;
+
+    private static final TreeMap<String, LatencyHistogram[]> histograms = new TreeMap<>();
+    private static final long[] commandPhaseNanos = new long[TOTAL];
+    private static final int[] phaseStack = new int[MAXIMUM_DEPTH];
+    private static int depth;
+    private static long commandStartNanos;
+    private static long phaseStartNanos;
+    private static Path statsFile;
+
+    /**
+     * Starts timing a command.
+     */
+    public static void startCommand() {
+        commandStartNanos = System.nanoTime();
+        depth = 0;
+        for (int phase = 0; phase < TOTAL; phase++) {
+            commandPhaseNanos[phase] = 0;
+        }
+    }
+
+    /**
+     * Starts a phase of the command being timed, pausing the phase it is started in.
+     * Every call must be followed by a call to endPhase, in a finally block if the phase can throw.
+     *
+     * @param phase PARSE, RENDER or SAVE
+     */
+    public static void startPhase(int phase) {
+        long now = System.nanoTime();
+        if (depth > 0) {
+            commandPhaseNanos[getCurrentPhase()] += now - phaseStartNanos;
+        }
+        if (depth < MAXIMUM_DEPTH) {
+            phaseStack[depth] = phase;
+        }
+        depth++;
+        phaseStartNanos = now;
+    }
+
+    /**
+     * Ends the phase started last, resuming the phase it was started in.
+     */
+    public static void endPhase() {
+        long now = System.nanoTime();
+        if (depth == 0) {
+            return;
+        }
+        commandPhaseNanos[getCurrentPhase()] += now - phaseStartNanos;
+        depth--;
+        phaseStartNanos = now;
+    }
+
+    /**
+     * Returns the phase started last, counting phases nested deeper than MAXIMUM_DEPTH as the deepest one kept.
+     */
+    private static int getCurrentPhase() {
+        return phaseStack[Math.min(depth, MAXIMUM_DEPTH) - 1];
+    }
+
+    /**
+     * Stops timing the command and records its phases.
+     *
+     * @param commandWord word of the command, or CHAIN for chained commands
+     */
+    public static void endCommand(String commandWord) {
+        long totalNanos = System.nanoTime() - commandStartNanos;
+        LatencyHistogram[] commandHistograms = histograms.computeIfAbsent(commandWord, word -> {
+            LatencyHistogram[] phaseHistograms = new LatencyHistogram[PHASE_NAMES.length];
+            for (int phase = 0; phase < phaseHistograms.length; phase++) {
+                phaseHistograms[phase] = new LatencyHistogram();
+            }
+            return phaseHistograms;
+        });
+        commandPhaseNanos[EXECUTE] = totalNanos - commandPhaseNanos[PARSE] - commandPhaseNanos[RENDER]
+                - commandPhaseNanos[SAVE];
+        for (int phase = 0; phase < TOTAL; phase++) {
+            commandHistograms[phase].record(commandPhaseNanos[phase]);
+        }
+        commandHistograms[TOTAL].record(totalNanos);
+    }
+
+    /**
+     * Sets the file the stats are written to when the program exits.
+     *
+     * @param file file to write to, or null to not write the stats
+     */
+    public static void setStatsFile(Path file) {
+        statsFile = file;
+    }
+
+    /**
+     * Writes the stats to the file set by setStatsFile, if any.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeStatsFile() throws IOException {
+        if (statsFile == null) {
+            return;
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(statsFile))) {
+            print(out);
+        }
+    }
+
+    /**
+     * Prints the 50th and 99th percentile and the largest latency of each phase of each command.
+     *
+     * @param out stream to print to
+     */
+    public static void print(PrintStream out) {
+        if (histograms.isEmpty()) {
+            out.println("No commands have been timed yet.");
+            return;
+        }
+        out.println("Latency of each command in microseconds:");
+        for (Map.Entry<String, LatencyHistogram[]> command : histograms.entrySet()) {
+            LatencyHistogram[] phaseHistograms = command.getValue();
+            out.println();
+            out.printf("%s (%d commands)%n", command.getKey(), phaseHistograms[TOTAL].getCount());
+            out.printf("  %-8s %12s %12s %12s%n", "Phase", "p50", "p99", "max");
+            for (int phase = 0; phase < phaseHistograms.length; phase++) {
+                LatencyHistogram histogram = phaseHistograms[phase];
+                out.printf("  %-8s %12.1f %12.1f %12.1f%n", PHASE_NAMES[phase],
+                        histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+                        histogram.getValueAtPercentile(99) / NANOS_PER_MICRO,
+                        histogram.getMax() / NANOS_PER_MICRO);
+            }
+        }
+    }
+
+    /**
+     * Forgets every timing recorded.
+     */
+    public static void clear() {
+        histograms.clear();
+    }
+}
@@ -12,16 +12,21 @@ import seedu.duke.command.CreateNewUserCommand;
 import seedu.duke.command.DeleteCommand;
 import seedu.duke.command.EditExerciseCommand;
 import seedu.duke.command.EditFoodCommand;
+import seedu.duke.command.ExportCommand;
 import seedu.duke.command.FindAllCommand;
 import seedu.duke.command.FindCalorieCommand;
+import seedu.duke.command.FindCommand;
 import seedu.duke.command.FindDescriptionCommand;
 import seedu.duke.command.FindEitherCommand;
 import seedu.duke.command.GraphCommand;
 import seedu.duke.command.HelpCommand;
+import seedu.duke.command.ImportCommand;
 import seedu.duke.command.InvalidCommand;
 import seedu.duke.command.ListCommand;
 
 import seedu.duke.command.MoveActivityCommand;
+import seedu.duke.command.StatsCommand;
+import seedu.duke.command.SummaryCommand;
 import seedu.duke.exception.CalorieCountException;
 import seedu.duke.exception.EmptyDescriptionException;
 import seedu.duke.ui.ExceptionMessages;
@@ -35,8 +40,8 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.HashMap;
 
 import java.time.format.DateTimeParseException;
 
@@ -46,6 +51,7 @@ import static seedu.duke.Trakcal.storage;
 import static seedu.duke.ui.ExceptionMessages.displayAddActivityExceptionMessage;
 import static seedu.duke.ui.ExceptionMessages.displayAddCommandErrorMessage;
 import static seedu.duke.ui.ExceptionMessages.displayCalorieCountOutOfBound;
+import static seedu.duke.ui.ExceptionMessages.displayChainUndoneMessage;
 import static seedu.duke.ui.ExceptionMessages.displayDeleteCommandNullPointerExceptionMessage;
 import static seedu.duke.ui.ExceptionMessages.displayDeleteCommandNumberFormatExceptionMessage;
 import static seedu.duke.ui.ExceptionMessages.displayEditActivityExceptionMessage;
@@ -53,11 +59,12 @@ import static seedu.duke.ui.ExceptionMessages.displayEmptyAddActivityErrorMessag
 import static seedu.duke.ui.ExceptionMessages.displayEmptyEditActivityErrorMessage;
 import static seedu.duke.ui.ExceptionMessages.displayEmptyInput;
 import static seedu.duke.ui.ExceptionMessages.displayFindErrorMessage;
+import static seedu.duke.ui.ExceptionMessages.displayImportExportErrorMessage;
+import static seedu.duke.ui.ExceptionMessages.displaySummaryErrorMessage;
 import static seedu.duke.ui.ExceptionMessages.displayIoExceptionMessage;
 import static seedu.duke.ui.ExceptionMessages.displayStringIndexOutOfBoundsExceptionMessage;
 import static seedu.duke.ui.ExceptionMessages.displayIncorrectDateTimeFormatEnteredMessage;
-import static seedu.duke.ui.Ui.displayAddMessage;
-import static seedu.duke.ui.Ui.displayEditMessage;
+import static seedu.duke.ui.Ui.displaySavedMessage;
 
 /**
  * Initialises parser class.
@@ -69,15 +76,52 @@ public class Parser {
     protected static final int ALPHABET_WITH_SLASH = 2;
     public static final String SPACE = " ";
     public static final String CHAIN_SEPARATOR = "&&";
-    protected static final int CHAIN_SEPARATOR_LENGTH = 2;
 
-    protected static final String FOOD_TAG = "f/";
-    protected static final String EXERCISE_TAG = "e/";
     protected static final String CALORIE_TAG = "c/";
-    protected static final String DATE_TAG = "d/";
+    protected static final String CALORIE_RANGE_SEPARATOR = "-";
+    protected static final String PAGE_OPTION = "--page";
+    protected static final String GRAPH_FORMAT_MESSAGE = "Graph takes a number of days or a start and end date"
+            + "(YYYY-MM-DD)";
+    protected static final String FROM_TAG = " from/";
+    protected static final String TO_TAG = " to/";
+    protected static final String INVALID_COMMAND_WORD = "invalid";
 
     protected static final boolean FALSE = false;
 
+    /**
+     * Prepares a command from the input split into the command word and the rest of the input.
+     */
+    private interface CommandPreparer {
+        Command prepare(Parser parser, String[] arguments) throws Exception;
+    }
+
+    /** Preparer of each command word, looked up once per input in place of a chain of string comparisons. */
+    private static final HashMap<String, CommandPreparer> COMMAND_PREPARERS = new HashMap<>();
+
+    static {
+        COMMAND_PREPARERS.put("create", (parser, arguments) -> new CreateNewUserCommand());
+        COMMAND_PREPARERS.put("createset", (parser, arguments) -> new CreateNewRepeatedSet(arguments[1]));
+        COMMAND_PREPARERS.put("add", (parser, arguments) -> parser.prepareAddCommand(parser.userInput));
+        COMMAND_PREPARERS.put("addset", (parser, arguments) -> parser.prepareAddSet(arguments[1]));
+        COMMAND_PREPARERS.put("find", (parser, arguments) -> parser.prepareFindCommand(parser.userInput));
+        COMMAND_PREPARERS.put("edit", (parser, arguments) -> {
+            Trakcal.profile = InitialiseUserProfile.editUserInfo(arguments[1]);
+            AskUserProfileQns.save(Trakcal.profile);
+            return null;
+        });
+        COMMAND_PREPARERS.put("edita", (parser, arguments) -> parser.prepareEditActivityCommand(arguments[1]));
+        COMMAND_PREPARERS.put("delete", (parser, arguments) -> parser.prepareDeleteCommand(arguments[1]));
+        COMMAND_PREPARERS.put("list", (parser, arguments) -> parser.prepareListCommand(parser.userInput));
+        COMMAND_PREPARERS.put("help", (parser, arguments) -> new HelpCommand());
+        COMMAND_PREPARERS.put("move", (parser, arguments) -> parser.prepareMoveIndexCommand(parser.userInput));
+        COMMAND_PREPARERS.put("bye", (parser, arguments) -> new ByeCommand());
+        COMMAND_PREPARERS.put("graph", (parser, arguments) -> parser.prepareGraphCommand(arguments));
+        COMMAND_PREPARERS.put("summary", (parser, arguments) -> parser.prepareSummaryCommand(parser.userInput));
+        COMMAND_PREPARERS.put("import", (parser, arguments) -> parser.prepareImportCommand(parser.userInput));
+        COMMAND_PREPARERS.put("export", (parser, arguments) -> parser.prepareExportCommand(parser.userInput));
+        COMMAND_PREPARERS.put("stats", (parser, arguments) -> new StatsCommand());
+    }
+
 
     /**
      * Store details in the class.
@@ -85,50 +129,43 @@ public class Parser {
      * @param userInput user from the user
      */
     public Parser(String userInput) {
-        this.userInput = userInput.trim().replaceAll(" +", SPACE);
+        this.userInput = InputTokenizer.normaliseSpaces(userInput);
         this.date = LocalDateTime.now();
     }
 
     /**
-     * Parses commands input by user.
+     * Parses commands input by user, timed as the parse phase of the command.
      *
      * @return Command type
      */
     public Command parseCommand() {
+        LatencyStats.startPhase(LatencyStats.PARSE);
+        try {
+            return prepareCommand();
+        } finally {
+            LatencyStats.endPhase();
+        }
+    }
+
+    /**
+     * Returns the command word of the input, under which the command is timed.
+     *
+     * @return command word in lower case, or INVALID_COMMAND_WORD if the input is not a command
+     */
+    public String getCommandWord() {
+        int spaceIndex = userInput.indexOf(SPACE);
+        String commandWord = (spaceIndex < 0 ? userInput : userInput.substring(0, spaceIndex)).toLowerCase();
+        return COMMAND_PREPARERS.containsKey(commandWord) ? commandWord : INVALID_COMMAND_WORD;
+    }
+
+    private Command prepareCommand() {
         String[] arguments = userInput.split(SPACE, 2);
+        CommandPreparer preparer = COMMAND_PREPARERS.get(arguments[0].toLowerCase());
+        if (preparer == null) {
+            return new InvalidCommand();
+        }
         try {
-            switch (arguments[0].toLowerCase()) {
-            case "create":
-                return new CreateNewUserCommand();
-            case "createset":
-                return new CreateNewRepeatedSet(arguments[1]);
-            case "add":
-                return prepareAddCommand(userInput);
-            case "addset":
-                return prepareAddSet(arguments[1]);
-            case "find":
-                return prepareFindCommand(userInput);
-            case "edit":
-                Trakcal.profile = InitialiseUserProfile.editUserInfo(arguments[1]);
-                AskUserProfileQns.save(Trakcal.profile);
-                break;
-            case "edita":
-                return prepareEditActivityCommand(arguments[1]);
-            case "delete":
-                return prepareDeleteCommand(arguments[1]);
-            case "list":
-                return prepareListCommand(userInput);
-            case "help":
-                return new HelpCommand();
-            case "move":
-                return prepareMoveIndexCommand(userInput);
-            case "bye":
-                return new ByeCommand();
-            case "graph":
-                return prepareGraphCommand(arguments);
-            default:
-                return new InvalidCommand();
-            }
+            return preparer.prepare(this, arguments);
         } catch (StringIndexOutOfBoundsException e) {
             displayStringIndexOutOfBoundsExceptionMessage();
         } catch (IOException e) {
@@ -141,81 +178,84 @@ public class Parser {
 
     /**
      * Prepares file to be read from and added into the current list.
+     * Only the add commands are prepared here, so nothing is added or saved until the command is executed.
      *
      * @param fileName file to be read from
-     * @return Command
+     * @return AddSetCommand with an add command for each valid line of the file
      */
     private Command prepareAddSet(String fileName) {
-        Date date = new Date();
-        SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
-        String strDate = formatter.format(date);
-        try {
-            String initialPath = new File("").getAbsolutePath();
-            String filePath = initialPath + "/" + fileName + ".txt";
-            File file = new File(filePath);
-            BufferedReader reader = new BufferedReader(new FileReader(filePath));
-
-            if (file.exists()) {
-                String line = reader.readLine();
-
-                while (line != null) {
-                    Parser parser = new Parser("add " + line + " d/ " + strDate);
-                    Command cmd = parser.parseCommand();
-                    executeCmd(cmd);
-                    storage.updateFile(calList);
-                    line = reader.readLine();
+        String strDate = LocalDate.now().toString();
+        ArrayList<Command> addCommands = new ArrayList<>();
+        String filePath = new File("").getAbsolutePath() + "/" + fileName + ".txt";
+        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+            String line = reader.readLine();
+            while (line != null) {
+                Command addCommand = new Parser("add " + line + " d/ " + strDate).parseCommand();
+                if (addCommand != null) {
+                    addCommands.add(addCommand);
                 }
-            } else {
-                throw new FileNotFoundException();
+                line = reader.readLine();
             }
-            reader.close();
-            return new AddSetCommand();
         } catch (FileNotFoundException e) {
             ExceptionMessages.displayShortcutDoesNotExistMessage();
         } catch (IOException e) {
             ExceptionMessages.displayIoExceptionMessage();
         }
-        return new AddSetCommand();
+        return new AddSetCommand(addCommands);
     }
 
     /**
-     * Prepares chained input by user into their respective commands to be read.
+     * Prepares chained input by user into their respective commands and runs them as one transaction.
+     * The changes are saved once after the last command, and if any command cannot be parsed, cannot be chained
+     * or fails, the changes of the commands before it are undone and nothing is saved.
      *
      * @param userInput input given by user
      * @return null
      */
     public Command prepareChaining(String userInput) {
-        while (userInput.contains(CHAIN_SEPARATOR)) {
-            if (!(userInput.endsWith(CHAIN_SEPARATOR))) {
-                userInput = userInput + SPACE + CHAIN_SEPARATOR;
-            }
-            int chainIndex = userInput.indexOf(CHAIN_SEPARATOR);
-
-            String firstString = userInput.substring(0, chainIndex).trim();
-
-            Parser parser = new Parser(firstString);
-            Command cmd = parser.parseCommand();
-
-            if (cmd.getCanBeChained()) {
+        String commandInput = null;
+        boolean isCommitted = false;
+        calList.beginTransaction();
+        try {
+            for (String chainedInput : InputTokenizer.splitChain(userInput, CHAIN_SEPARATOR)) {
+                commandInput = chainedInput;
+                this.userInput = InputTokenizer.normaliseSpaces(commandInput);
+                Command cmd = parseCommand();
+                if (cmd == null) {
+                    return null;
+                }
+                if (!cmd.getCanBeChained()) {
+                    System.out.println("'" + commandInput + "' cannot be chained!");
+                    return null;
+                }
                 executeCmd(cmd);
-            } else {
-                System.out.println("'" + firstString + "' cannot be chained!");
-                break;
+                if (cmd.hasFailed()) {
+                    return null;
+                }
             }
-            storage.updateFile(calList);
-
-            userInput = userInput.substring(chainIndex + CHAIN_SEPARATOR_LENGTH).trim();
+            calList.commitTransaction();
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                calList.rollbackTransaction();
+                displayChainUndoneMessage(commandInput);
+            }
+        }
+        boolean hasChanges = !calList.getChangedDates().isEmpty();
+        storage.updateFile(calList);
+        if (hasChanges) {
+            displaySavedMessage();
         }
         return null;
     }
 
-    public void checkCalories(int calories) throws CalorieCountException {
+    public static void checkCalories(int calories) throws CalorieCountException {
         if (calories <= 0 || calories > 3000) {
             throw new CalorieCountException();
         }
     }
 
-    public void checkDescription(String description) throws EmptyDescriptionException {
+    public static void checkDescription(String description) throws EmptyDescriptionException {
         if (description.equals(" ") || description.equals("")) {
             throw new EmptyDescriptionException();
         }
@@ -233,30 +273,21 @@ public class Parser {
         userInput = arguments[1];
 
         try {
-            if (userInput.startsWith(FOOD_TAG)) {
-                int calorieIndex = userInput.indexOf(CALORIE_TAG);
-                int calories = Integer.parseInt(userInput.substring(calorieIndex + ALPHABET_WITH_SLASH).trim());
-                checkCalories(calories);
-
-                String foodDescription = userInput.substring(ALPHABET_WITH_SLASH, calorieIndex - 1).trim();
-                checkDescription(foodDescription);
-
-                displayEditMessage();
-
-                assert calories > 0 : "calories should be greater than 0";
-                return new EditFoodCommand(index, foodDescription, calories);
-            } else if (userInput.startsWith(EXERCISE_TAG)) {
-                int calorieIndex = userInput.indexOf(CALORIE_TAG);
+            int[] tagIndexes = InputTokenizer.findTags(userInput);
+            boolean isFood = tagIndexes[InputTokenizer.FOOD_TAG] == 0;
+            if (isFood || tagIndexes[InputTokenizer.EXERCISE_TAG] == 0) {
+                int calorieIndex = tagIndexes[InputTokenizer.CALORIE_TAG];
                 int calories = Integer.parseInt(userInput.substring(calorieIndex + ALPHABET_WITH_SLASH).trim());
                 checkCalories(calories);
 
-                String exerciseDescription = userInput.substring(ALPHABET_WITH_SLASH, calorieIndex - 1).trim();
-                checkDescription(exerciseDescription);
-
-                displayEditMessage();
+                String description = userInput.substring(ALPHABET_WITH_SLASH, calorieIndex - 1).trim();
+                checkDescription(description);
 
                 assert calories > 0 : "calories should be greater than 0";
-                return new EditExerciseCommand(index, exerciseDescription, calories);
+                if (isFood) {
+                    return new EditFoodCommand(index, description, calories);
+                }
+                return new EditExerciseCommand(index, description, calories);
             } else {
                 displayEmptyEditActivityErrorMessage();
             }
@@ -282,41 +313,31 @@ public class Parser {
      */
     private Command prepareAddCommand(String userInput) {
         try {
-            String[] arguments = userInput.split(SPACE, 2);
-            if (arguments[1].startsWith(FOOD_TAG)) {
-                int calorieIndex = arguments[1].indexOf(CALORIE_TAG);
-                int dateIndex = arguments[1].indexOf(DATE_TAG);
-
-                int calories = Integer.parseInt(arguments[1].substring(calorieIndex + ALPHABET_WITH_SLASH,
-                        dateIndex).trim());
-                checkCalories(calories);
-
-                String foodDescription = arguments[1].substring(ALPHABET_WITH_SLASH, calorieIndex - 1).trim();
-                checkDescription(foodDescription);
-
-                LocalDate date = processDate(arguments[1].substring(dateIndex + ALPHABET_WITH_SLASH).trim());
-
-                displayAddMessage();
-
-                assert calories > 0 : "calories should be greater than 0";
-                return new AddFoodCommand(foodDescription, calories, FALSE, date);
-            } else if (arguments[1].startsWith(EXERCISE_TAG)) {
-                int calorieIndex = arguments[1].indexOf(CALORIE_TAG);
-                int dateIndex = arguments[1].indexOf(DATE_TAG);
+            String details = userInput.split(SPACE, 2)[1];
+            int[] tagIndexes = InputTokenizer.findTags(details);
+            boolean isFood = tagIndexes[InputTokenizer.FOOD_TAG] == 0;
+            if (isFood || tagIndexes[InputTokenizer.EXERCISE_TAG] == 0) {
+                int calorieIndex = tagIndexes[InputTokenizer.CALORIE_TAG];
+                int dateIndex = tagIndexes[InputTokenizer.DATE_TAG];
+                if (calorieIndex < 0 || dateIndex < calorieIndex) {
+                    displayAddCommandErrorMessage();
+                    return null;
+                }
 
-                int calories = Integer.parseInt(arguments[1].substring(calorieIndex + ALPHABET_WITH_SLASH,
+                int calories = Integer.parseInt(details.substring(calorieIndex + ALPHABET_WITH_SLASH,
                         dateIndex).trim());
                 checkCalories(calories);
 
-                String exerciseDescription = arguments[1].substring(ALPHABET_WITH_SLASH, calorieIndex - 1).trim();
-                checkDescription(exerciseDescription);
+                String description = details.substring(ALPHABET_WITH_SLASH, calorieIndex - 1).trim();
+                checkDescription(description);
 
-                LocalDate date = processDate(arguments[1].substring(dateIndex + ALPHABET_WITH_SLASH).trim());
-
-                displayAddMessage();
+                LocalDate date = processDate(details.substring(dateIndex + ALPHABET_WITH_SLASH).trim());
 
                 assert calories > 0 : "calories should be greater than 0";
-                return new AddExerciseCommand(exerciseDescription, calories, FALSE, date);
+                if (isFood) {
+                    return new AddFoodCommand(description, calories, FALSE, date);
+                }
+                return new AddExerciseCommand(description, calories, FALSE, date);
             } else {
                 displayEmptyAddActivityErrorMessage();
             }
@@ -343,8 +364,7 @@ public class Parser {
      * @throws IndexOutOfBoundsException if the index is not valid
      */
     private Command prepareMoveIndexCommand(String userInput) throws IndexOutOfBoundsException {
-        //Removing additional spaces in the user's input
-        String after = userInput.trim().replaceAll(" +", " ");
+        String after = userInput;
         String firstIndexKey = "from/";
         String secondIndexKey = "below/";
 
@@ -401,9 +421,12 @@ public class Parser {
         if (userInput.toLowerCase().equals("list")) {
             return new ListCommand();
         } else {
-            String dateString = userInput.split(" ")[1];
+            String[] dateStrings = userInput.split(SPACE);
             try {
-                LocalDate date = processDate(dateString);
+                LocalDate date = processDate(dateStrings[1]);
+                if (dateStrings.length > 2) {
+                    return new ListCommand(date, processDate(dateStrings[2]));
+                }
                 return new ListCommand(date);
             } catch (DateTimeParseException e) {
                 displayIncorrectDateTimeFormatEnteredMessage();
@@ -437,47 +460,179 @@ public class Parser {
     /**
      * Prepares the find command by checking the userInput.
      * If the keyword contains activity description, returns FindDescriptionCommand.
-     * Else if the keyword contains calories count, returns FindCalorieCommand.
+     * Else if the keyword contains calories count or a range of calories count, returns FindCalorieCommand.
+     *
+     * <p>A trailing --page N shows only the Nth page of the results.
      *
      * @param userInput description of the find command
      * @return FindCalorieCommand
      */
     private Command prepareFindCommand(String userInput) {
         try {
+            int page = FindCommand.ALL_PAGES;
+            int pageIndex = InputTokenizer.findTrailingOption(userInput, PAGE_OPTION);
+            if (pageIndex != InputTokenizer.NOT_FOUND) {
+                page = Integer.parseInt(userInput.substring(pageIndex + PAGE_OPTION.length()).trim());
+                userInput = userInput.substring(0, pageIndex).trim();
+            }
+            FindCommand findCommand = null;
             String[] arguments = userInput.split(" ", 2);
             if (arguments[1].startsWith("d/")) {
                 String description = arguments[1].substring(2).trim();
-                return new FindDescriptionCommand(description);
+                findCommand = new FindDescriptionCommand(description);
             } else if (arguments[1].startsWith(CALORIE_TAG)) {
                 String calorie = arguments[1].substring(2).trim();
-                return new FindCalorieCommand(calorie);
+                findCommand = prepareFindCalorieCommand(calorie);
             } else if (arguments[1].startsWith("a/")) {
-                return new FindAllCommand(arguments[1]);
+                findCommand = new FindAllCommand(arguments[1]);
             } else if (arguments[1].startsWith("e/")) {
-                return new FindEitherCommand(arguments[1]);
+                findCommand = new FindEitherCommand(arguments[1]);
             } else {
                 displayFindErrorMessage();
             }
-        } catch (NullPointerException | StringIndexOutOfBoundsException e) {
+            if (findCommand != null) {
+                findCommand.setPage(page);
+            }
+            return findCommand;
+        } catch (NullPointerException | StringIndexOutOfBoundsException | NumberFormatException e) {
+            displayFindErrorMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Prepares the find command for a calories count, or a range of calories count such as 200-500.
+     *
+     * @param calorie calories count or range of calories count
+     * @return FindCalorieCommand
+     */
+    private FindCommand prepareFindCalorieCommand(String calorie) {
+        try {
+            int rangeIndex = calorie.indexOf(CALORIE_RANGE_SEPARATOR, 1);
+            if (rangeIndex < 0) {
+                return new FindCalorieCommand(Integer.parseInt(calorie));
+            }
+            int minCalories = Integer.parseInt(calorie.substring(0, rangeIndex).trim());
+            int maxCalories = Integer.parseInt(calorie.substring(rangeIndex + 1).trim());
+            return new FindCalorieCommand(minCalories, maxCalories);
+        } catch (NumberFormatException e) {
             displayFindErrorMessage();
         }
         return null;
     }
 
+    /**
+     * Prepares the summary command for the current week, the current month or a range of dates.
+     *
+     * @param userInput description of the summary command
+     * @return SummaryCommand
+     */
+    private Command prepareSummaryCommand(String userInput) {
+        String[] arguments = userInput.split(SPACE);
+        try {
+            if (arguments.length == 2 && arguments[1].equalsIgnoreCase("week")) {
+                return SummaryCommand.forCurrentWeek();
+            } else if (arguments.length == 2 && arguments[1].equalsIgnoreCase("month")) {
+                return SummaryCommand.forCurrentMonth();
+            } else if (arguments.length == 3) {
+                return new SummaryCommand(processDate(arguments[1]), processDate(arguments[2]));
+            }
+        } catch (DateTimeParseException e) {
+            displayIncorrectDateTimeFormatEnteredMessage();
+            return null;
+        }
+        displaySummaryErrorMessage();
+        return null;
+    }
+
+    /**
+     * Prepares the import command for the file given.
+     *
+     * @param userInput description of the import command
+     * @return ImportCommand
+     */
+    private Command prepareImportCommand(String userInput) {
+        String[] arguments = userInput.split(SPACE, 2);
+        if (arguments.length < 2 || arguments[1].isBlank()) {
+            displayImportExportErrorMessage();
+            return null;
+        }
+        return new ImportCommand(arguments[1].trim());
+    }
+
+    /**
+     * Prepares the export command for the file given, and the optional first and last dates to export.
+     *
+     * @param userInput description of the export command
+     * @return ExportCommand
+     */
+    private Command prepareExportCommand(String userInput) {
+        String[] arguments = userInput.split(SPACE, 2);
+        if (arguments.length < 2) {
+            displayImportExportErrorMessage();
+            return null;
+        }
+        String rest = SPACE + arguments[1];
+        int fromIndex = rest.indexOf(FROM_TAG);
+        int toIndex = rest.indexOf(TO_TAG);
+        int fileNameEnd = rest.length();
+        if (fromIndex >= 0) {
+            fileNameEnd = fromIndex;
+        }
+        if (toIndex >= 0 && toIndex < fileNameEnd) {
+            fileNameEnd = toIndex;
+        }
+        String fileName = rest.substring(0, fileNameEnd).trim();
+        if (fileName.isEmpty()) {
+            displayImportExportErrorMessage();
+            return null;
+        }
+        try {
+            LocalDate startDate = LocalDate.MIN;
+            LocalDate endDate = LocalDate.MAX;
+            if (fromIndex >= 0) {
+                int fromEnd = toIndex > fromIndex ? toIndex : rest.length();
+                startDate = processDate(rest.substring(fromIndex + FROM_TAG.length(), fromEnd).trim());
+            }
+            if (toIndex >= 0) {
+                int toEnd = fromIndex > toIndex ? fromIndex : rest.length();
+                endDate = processDate(rest.substring(toIndex + TO_TAG.length(), toEnd).trim());
+            }
+            return new ExportCommand(fileName, startDate, endDate);
+        } catch (DateTimeParseException e) {
+            displayIncorrectDateTimeFormatEnteredMessage();
+        }
+        return null;
+    }
+
     /**
      * Prepares the arguments needed for the graph command.
+     * The graph shows the last 7 days with entries, the last N days with entries, or a range of dates.
      * @param userInput description of the graph command
      * @return graphCommand
      * @throws Exception if no records are found
      */
     private Command prepareGraphCommand(String[] userInput) throws Exception {
-        if (userInput.length != 1) {
-            throw new Exception("Graph has has no description");
-        }
         if (Trakcal.calList.getHashMap().size() == 0) {
             throw new Exception("No records found!");
         }
-        return new GraphCommand();
+        if (userInput.length == 1) {
+            return new GraphCommand();
+        }
+        String[] graphArguments = userInput[1].split(SPACE);
+        try {
+            if (graphArguments.length == 1) {
+                int numberOfDays = Integer.parseInt(graphArguments[0]);
+                if (numberOfDays > 0) {
+                    return new GraphCommand(numberOfDays);
+                }
+            } else if (graphArguments.length == 2) {
+                return new GraphCommand(processDate(graphArguments[0]), processDate(graphArguments[1]));
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new Exception(GRAPH_FORMAT_MESSAGE);
+        }
+        throw new Exception(GRAPH_FORMAT_MESSAGE);
     }
 
 
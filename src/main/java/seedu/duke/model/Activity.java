@@ -1,15 +1,23 @@
 package seedu.duke.model;
 
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Store activities attributes.
+ * To keep a long history small, the description is kept as its id in the DescriptionPool and the date as its
+ * epoch day, and an ActivityList keeps these in its columns rather than keeping the activity.
+ * Every activity created gets a serial, which is kept with it in every list it is added to, so that an activity
+ * read from one list can be found in another.
  */
 public class Activity {
-    protected String description;
+    static final int NO_DATE = Integer.MIN_VALUE;
+    private static final AtomicInteger lastSerial = new AtomicInteger();
+
+    protected int serial;
+    protected int descriptionId;
     protected int calories;
-    protected boolean isFromFile;
-    protected LocalDate date;
+    protected int epochDay;
 
     /**
      * Constructor of class Activity.
@@ -17,16 +25,26 @@ public class Activity {
      * @param description activity description
      * @param calories activity calories count
      */
-    public Activity(String description, int calories, LocalDate date, boolean isFromFile) {
-        this.description = description;
+    public Activity(String description, int calories, LocalDate date) {
+        this.serial = lastSerial.incrementAndGet();
+        this.descriptionId = DescriptionPool.intern(description);
         this.calories = calories;
-        this.isFromFile = isFromFile;
-        this.date = date;
+        this.epochDay = toEpochDay(date);
+    }
 
-        // If the activity added is not from decoding the file, print confirmation message
-        if (!isFromFile) {
-            System.out.println(toString());
-        }
+    /**
+     * Constructor of an activity read from the columns of an ActivityList.
+     *
+     * @param serial serial of the activity
+     * @param descriptionId id of the activity description
+     * @param calories activity calories count
+     * @param epochDay epoch day of the activity date, or NO_DATE
+     */
+    Activity(int serial, int descriptionId, int calories, int epochDay) {
+        this.serial = serial;
+        this.descriptionId = descriptionId;
+        this.calories = calories;
+        this.epochDay = epochDay;
     }
 
     /**
@@ -35,7 +53,16 @@ public class Activity {
      * @return activity description
      */
     public String getActivityDescription() {
-        return this.description;
+        return DescriptionPool.get(descriptionId);
+    }
+
+    /**
+     * Gets the id of the activity description in the DescriptionPool.
+     *
+     * @return id of the activity description
+     */
+    public int getDescriptionId() {
+        return this.descriptionId;
     }
 
     /**
@@ -53,7 +80,21 @@ public class Activity {
      * @return activity date
      */
     public LocalDate getActivityDate() {
-        return this.date;
+        return toDate(epochDay);
+    }
+
+    /**
+     * Returns the epoch day of a date, or NO_DATE if there is no date.
+     */
+    static int toEpochDay(LocalDate date) {
+        return date == null ? NO_DATE : (int) date.toEpochDay();
+    }
+
+    /**
+     * Returns the date of an epoch day, or null for NO_DATE.
+     */
+    static LocalDate toDate(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
     }
 
     /**
@@ -62,6 +103,6 @@ public class Activity {
      * @return String to be printed out.
      */
     public String toString() {
-        return description + " | " + calories;
+        return getActivityDescription() + " | " + calories;
     }
 }
@@ -1,9 +1,10 @@
 package seedu.duke.model;
 
 import seedu.duke.Trakcal;
+import seedu.duke.ui.Ui;
 
+import java.io.PrintStream;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Arrays;
 
 import static seedu.duke.ui.Ui.displayEmptyActivityCounterMessage;
@@ -11,18 +12,39 @@ import static seedu.duke.ui.Ui.displayEmptyActivityCounterMessage;
 
 /**
  * List of activities for any day.
+ * The activities are kept in columns of primitives, with the type, description id, calories, epoch day and serial
+ * of the activity at each index, so that a list holds no object for each activity and calories are filtered by
+ * looping over an int array. getActivity returns a new Activity holding the values at an index.
  */
 public class ActivityList extends Trakcal {
-    private ArrayList<Activity> activities;
-    private int activityCounter;
+    private static final String ACTIVITY_SEPARATOR = ", ";
+    private static final String FIELD_SEPARATOR = " | ";
+    private static final String FOOD_PREFIX = "[F] | ";
+    private static final String EXERCISE_PREFIX = "[E] | ";
+    private static final byte FOOD_TYPE = 'F';
+    private static final byte EXERCISE_TYPE = 'E';
+    private static final int MINIMUM_CAPACITY = 4;
+    private static final byte[] NO_TYPES = {};
+    private static final int[] NO_VALUES = {};
+
+    private byte[] types;
+    private int[] descriptionIds;
+    private int[] calories;
+    private int[] epochDays;
+    private int[] serials;
+    private int numberOfActivities;
     private int netCalorie;
 
     /**
      * Constructor of class ActivityList.
      */
     public ActivityList() {
-        activities = new ArrayList<>();
-        activityCounter = 0;
+        types = NO_TYPES;
+        descriptionIds = NO_VALUES;
+        calories = NO_VALUES;
+        epochDays = NO_VALUES;
+        serials = NO_VALUES;
+        numberOfActivities = 0;
         netCalorie = 0;
     }
 
@@ -32,31 +54,62 @@ public class ActivityList extends Trakcal {
      * @return current number of activities in the list
      */
     public int getNumberOfActivities() {
-        return activities.size();
-    }
-
-    public ArrayList getArrayList() {
-        return activities;
+        return numberOfActivities;
     }
 
-
     /**
      * Adds new activity to the list and updates the netCalorie accordingly to the activity type added.
      *
      * @param activity new activity that will be added to the current activity
-     * @throws IndexOutOfBoundsException if the calories is not within the limits
+     * @throws IndexOutOfBoundsException if the activity is neither a food nor an exercise
      */
     public void addActivity(Activity activity) throws IndexOutOfBoundsException {
-        activities.add(activity);
-        activityCounter++;
-        if (activity instanceof Food) {
-            netCalorie += activity.calories;
-        } else if (activity instanceof Exercise) {
-            netCalorie -= activity.calories;
-        } else {
-            throw new IndexOutOfBoundsException();
+        byte type = getType(activity);
+        ensureCapacity(numberOfActivities + 1);
+        setActivity(numberOfActivities, type, activity);
+        numberOfActivities++;
+        netCalorie += getNetCalories(numberOfActivities - 1);
+    }
+
+    /**
+     * Adds all the activities of another list to the end of this list.
+     *
+     * @param activityList list to add the activities of
+     */
+    public void addActivities(ActivityList activityList) {
+        int count = activityList.numberOfActivities;
+        ensureCapacity(numberOfActivities + count);
+        System.arraycopy(activityList.types, 0, types, numberOfActivities, count);
+        System.arraycopy(activityList.descriptionIds, 0, descriptionIds, numberOfActivities, count);
+        System.arraycopy(activityList.calories, 0, calories, numberOfActivities, count);
+        System.arraycopy(activityList.epochDays, 0, epochDays, numberOfActivities, count);
+        System.arraycopy(activityList.serials, 0, serials, numberOfActivities, count);
+        numberOfActivities += count;
+        netCalorie += activityList.netCalorie;
+    }
+
+    /**
+     * Adds the activities of another list with calories between minCalories and maxCalories inclusive to the end
+     * of this list, in their order in the other list.
+     *
+     * @param activityList list to add the activities of
+     * @param minCalories smallest calorie count to add
+     * @param maxCalories largest calorie count to add
+     */
+    public void addActivitiesWithCaloriesBetween(ActivityList activityList, int minCalories, int maxCalories) {
+        int[] otherCalories = activityList.calories;
+        for (int i = 0; i < activityList.numberOfActivities; i++) {
+            if (otherCalories[i] >= minCalories && otherCalories[i] <= maxCalories) {
+                ensureCapacity(numberOfActivities + 1);
+                types[numberOfActivities] = activityList.types[i];
+                descriptionIds[numberOfActivities] = activityList.descriptionIds[i];
+                calories[numberOfActivities] = otherCalories[i];
+                epochDays[numberOfActivities] = activityList.epochDays[i];
+                serials[numberOfActivities] = activityList.serials[i];
+                numberOfActivities++;
+                netCalorie += getNetCalories(numberOfActivities - 1);
+            }
         }
-        //displaySavedMessage();
     }
 
     /**
@@ -68,13 +121,10 @@ public class ActivityList extends Trakcal {
      */
     public void insertActivity(int index, Activity activity) throws IndexOutOfBoundsException {
         if (isValidIndex(index)) {
-            activities.set(index, activity);
-
-            if (activity instanceof Food) {
-                netCalorie += activity.calories;
-            } else if (activity instanceof Exercise) {
-                netCalorie -= activity.calories;
-            }
+            byte type = getType(activity);
+            netCalorie -= getNetCalories(index);
+            setActivity(index, type, activity);
+            netCalorie += getNetCalories(index);
             //displaySavedMessage();
         } else {
             throw new IndexOutOfBoundsException();
@@ -91,9 +141,16 @@ public class ActivityList extends Trakcal {
     public void moveActivity(int indexToBeMovedFrom, int indexToBeInsertedBelow) throws IndexOutOfBoundsException {
 
         if (isValidIndex(indexToBeMovedFrom) && isValidIndex(indexToBeInsertedBelow)) {
+            byte type = types[indexToBeMovedFrom];
             Activity activity = getActivity(indexToBeMovedFrom);
-            activities.remove(indexToBeMovedFrom);
-            activities.add(indexToBeInsertedBelow, activity);
+            if (indexToBeMovedFrom < indexToBeInsertedBelow) {
+                shiftActivities(indexToBeMovedFrom + 1, indexToBeMovedFrom,
+                        indexToBeInsertedBelow - indexToBeMovedFrom);
+            } else {
+                shiftActivities(indexToBeInsertedBelow, indexToBeInsertedBelow + 1,
+                        indexToBeMovedFrom - indexToBeInsertedBelow);
+            }
+            setActivity(indexToBeInsertedBelow, type, activity);
             //displaySavedMessage();
         } else {
             throw new IndexOutOfBoundsException();
@@ -104,12 +161,38 @@ public class ActivityList extends Trakcal {
         return netCalorie;
     }
 
+    /**
+     * Returns the activity at an index, as a new Activity holding its values.
+     *
+     * @param index index of the activity
+     * @return the activity
+     * @throws IndexOutOfBoundsException if the index is not within the limits
+     */
     public Activity getActivity(int index) throws IndexOutOfBoundsException {
-        if (isValidIndex(index)) {
-            return activities.get(index);
-        } else {
+        if (!isValidIndex(index)) {
             throw new IndexOutOfBoundsException();
         }
+        if (types[index] == EXERCISE_TYPE) {
+            return new Exercise(serials[index], descriptionIds[index], calories[index], epochDays[index]);
+        } else {
+            return new Food(serials[index], descriptionIds[index], calories[index], epochDays[index]);
+        }
+    }
+
+    /**
+     * Returns the index of the given activity in the list.
+     * Activities are matched by their serial, so an activity equal in value on another date is never matched.
+     *
+     * @param activity activity to look for
+     * @return index of the activity, or -1 if it is not in the list
+     */
+    public int indexOfActivity(Activity activity) {
+        for (int i = 0; i < numberOfActivities; i++) {
+            if (serials[i] == activity.serial) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -119,17 +202,10 @@ public class ActivityList extends Trakcal {
      */
     public void removeActivity(int index) throws IndexOutOfBoundsException {
         if (isValidIndex(index)) {
-            Activity activityToRemove = activities.get(index);
-            if (activityToRemove instanceof Food) {
-                netCalorie -= activityToRemove.calories;
-            } else if (activityToRemove instanceof Exercise) {
-                netCalorie += activityToRemove.calories;
-            }
-            activities.remove(index);
-            activityCounter--;
-            System.out.print("Activity removed!\n");
+            netCalorie -= getNetCalories(index);
+            shiftActivities(index + 1, index, numberOfActivities - index - 1);
+            numberOfActivities--;
         } else {
-            System.out.println("Please make sure index is within range");
             throw new IndexOutOfBoundsException();
         }
     }
@@ -138,11 +214,12 @@ public class ActivityList extends Trakcal {
      * Prints the list of activities.
      */
     public void printList() {
-        if (activityCounter == 0) {
+        if (numberOfActivities == 0) {
             displayEmptyActivityCounterMessage();
         } else {
-            for (int i = 0; i < activityCounter; i++) {
-                System.out.println((i + 1) + ". " + getActivity(i).toString());
+            PrintStream output = Ui.getOutput();
+            for (int i = 0; i < numberOfActivities; i++) {
+                output.println((i + 1) + ". " + getActivity(i).toString());
             }
         }
     }
@@ -154,18 +231,33 @@ public class ActivityList extends Trakcal {
      * @return true if index is within range, else false
      */
     public boolean isValidIndex(int index) {
-        if ((index >= 0) && (index < activityCounter)) {
+        if ((index >= 0) && (index < numberOfActivities)) {
             return true;
         }
         return false;
     }
 
+    /**
+     * Replaces the activities of this list with the activities of another list.
+     *
+     * @param activityList list to copy the activities from
+     */
+    public void setActivities(ActivityList activityList) {
+        int count = activityList.numberOfActivities;
+        types = Arrays.copyOf(activityList.types, count);
+        descriptionIds = Arrays.copyOf(activityList.descriptionIds, count);
+        calories = Arrays.copyOf(activityList.calories, count);
+        epochDays = Arrays.copyOf(activityList.epochDays, count);
+        serials = Arrays.copyOf(activityList.serials, count);
+        numberOfActivities = count;
+        netCalorie = activityList.netCalorie;
+    }
+
     /**
      * Clears the list of activities.
      */
     public void clearList() {
-        activities.clear();
-        activityCounter = 0;
+        numberOfActivities = 0;
         netCalorie = 0;
     }
 
@@ -178,9 +270,27 @@ public class ActivityList extends Trakcal {
      */
     @Override
     public String toString() {
-        String activitiesString = Arrays.toString(activities.toArray());
-        activitiesString = activitiesString.substring(1, activitiesString.length() - 1);
-        return (activitiesString);
+        StringBuilder activitiesString = new StringBuilder();
+        appendTo(activitiesString);
+        return activitiesString.toString();
+    }
+
+    /**
+     * Appends the activities in the same format as toString, straight into the builder without a string
+     * for each activity.
+     *
+     * @param builder builder to append to
+     */
+    public void appendTo(StringBuilder builder) {
+        for (int i = 0; i < numberOfActivities; i++) {
+            if (i > 0) {
+                builder.append(ACTIVITY_SEPARATOR);
+            }
+            builder.append(types[i] == EXERCISE_TYPE ? EXERCISE_PREFIX : FOOD_PREFIX)
+                    .append(DescriptionPool.get(descriptionIds[i]))
+                    .append(FIELD_SEPARATOR)
+                    .append(calories[i]);
+        }
     }
 
     /**
@@ -189,6 +299,61 @@ public class ActivityList extends Trakcal {
      * @return date
      */
     public LocalDate getDateOfActivityAtIndex(int index) {
-        return getActivity(index).getActivityDate();
+        if (!isValidIndex(index)) {
+            throw new IndexOutOfBoundsException();
+        }
+        return Activity.toDate(epochDays[index]);
+    }
+
+    private static byte getType(Activity activity) throws IndexOutOfBoundsException {
+        if (activity instanceof Food) {
+            return FOOD_TYPE;
+        } else if (activity instanceof Exercise) {
+            return EXERCISE_TYPE;
+        } else {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Returns the calories of the activity at an index, negative for an exercise.
+     */
+    private int getNetCalories(int index) {
+        return types[index] == EXERCISE_TYPE ? -calories[index] : calories[index];
+    }
+
+    private void setActivity(int index, byte type, Activity activity) {
+        types[index] = type;
+        descriptionIds[index] = activity.descriptionId;
+        calories[index] = activity.calories;
+        epochDays[index] = activity.epochDay;
+        serials[index] = activity.serial;
+    }
+
+    /**
+     * Copies length activities from sourceIndex to targetIndex, which may overlap.
+     */
+    private void shiftActivities(int sourceIndex, int targetIndex, int length) {
+        System.arraycopy(types, sourceIndex, types, targetIndex, length);
+        System.arraycopy(descriptionIds, sourceIndex, descriptionIds, targetIndex, length);
+        System.arraycopy(calories, sourceIndex, calories, targetIndex, length);
+        System.arraycopy(epochDays, sourceIndex, epochDays, targetIndex, length);
+        System.arraycopy(serials, sourceIndex, serials, targetIndex, length);
+    }
+
+    /**
+     * Grows the columns to hold at least the given number of activities, at least doubling them so that adding
+     * an activity takes amortised constant time.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= types.length) {
+            return;
+        }
+        int newCapacity = Math.max(Math.max(capacity, types.length * 2), MINIMUM_CAPACITY);
+        types = Arrays.copyOf(types, newCapacity);
+        descriptionIds = Arrays.copyOf(descriptionIds, newCapacity);
+        calories = Arrays.copyOf(calories, newCapacity);
+        epochDays = Arrays.copyOf(epochDays, newCapacity);
+        serials = Arrays.copyOf(serials, newCapacity);
     }
 }
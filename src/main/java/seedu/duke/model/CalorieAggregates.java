@@ -0,0 +1,171 @@
+package seedu.duke.model;
+
+import java.time.LocalDate;
+
+/**
+ * Running net calorie totals of every date, indexed by epoch day.
+ * The totals are kept in Fenwick trees so that the net calories and the number of dates with activities
+ * of any range of dates, such as a week or a month, are found in logarithmic time.
+ */
+public class CalorieAggregates {
+    private static final int INITIAL_CAPACITY = 512;
+
+    private long firstEpochDay;
+    private int[] netCalories = new int[0];
+    private int[] activityCounts = new int[0];
+    private long[] netCalorieTree = new long[1];
+    private int[] dayTree = new int[1];
+
+    /**
+     * Adds the net calories of an activity to its date.
+     *
+     * @param date date of the activity
+     * @param activity activity to add
+     */
+    public void addActivity(LocalDate date, Activity activity) {
+        update(date, getNetCalories(activity), 1);
+    }
+
+    /**
+     * Removes the net calories of an activity from its date.
+     *
+     * @param date date of the activity
+     * @param activity activity to remove
+     */
+    public void removeActivity(LocalDate date, Activity activity) {
+        update(date, -getNetCalories(activity), -1);
+    }
+
+    /**
+     * Returns the net calories of all activities from startDate to endDate inclusive.
+     *
+     * @param startDate first date of the range
+     * @param endDate last date of the range
+     * @return net calories of the range
+     */
+    public long getNetCalories(LocalDate startDate, LocalDate endDate) {
+        long start = Math.max(0, startDate.toEpochDay() - firstEpochDay);
+        long end = Math.min(netCalories.length - 1, endDate.toEpochDay() - firstEpochDay);
+        if (start > end) {
+            return 0;
+        }
+        return sum(netCalorieTree, (int) end + 1) - sum(netCalorieTree, (int) start);
+    }
+
+    /**
+     * Returns the calories an activity adds to the net calories of its date.
+     *
+     * @param activity activity to check
+     * @return calories of a food, or negative calories of an exercise
+     */
+    private static int getNetCalories(Activity activity) {
+        return activity instanceof Exercise ? -activity.getActivityCalories() : activity.getActivityCalories();
+    }
+
+    /**
+     * Returns the number of dates with at least one activity from startDate to endDate inclusive.
+     *
+     * @param startDate first date of the range
+     * @param endDate last date of the range
+     * @return number of dates with activities in the range
+     */
+    public int getNumberOfDays(LocalDate startDate, LocalDate endDate) {
+        long start = Math.max(0, startDate.toEpochDay() - firstEpochDay);
+        long end = Math.min(netCalories.length - 1, endDate.toEpochDay() - firstEpochDay);
+        if (start > end) {
+            return 0;
+        }
+        return (int) (sum(dayTree, (int) end + 1) - sum(dayTree, (int) start));
+    }
+
+    private void update(LocalDate date, int netCalorieChange, int activityCountChange) {
+        int index = toIndex(date);
+        netCalories[index] += netCalorieChange;
+        add(netCalorieTree, index + 1, netCalorieChange);
+        int previousCount = activityCounts[index];
+        activityCounts[index] += activityCountChange;
+        if (previousCount == 0 && activityCounts[index] > 0) {
+            add(dayTree, index + 1, 1);
+        } else if (previousCount > 0 && activityCounts[index] == 0) {
+            add(dayTree, index + 1, -1);
+        }
+    }
+
+    /**
+     * Returns the position of the date in the totals, making room for the date if it is outside them.
+     */
+    private int toIndex(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (netCalories.length == 0) {
+            firstEpochDay = epochDay - INITIAL_CAPACITY / 2;
+            resize(firstEpochDay, INITIAL_CAPACITY);
+        }
+        if (epochDay < firstEpochDay || epochDay >= firstEpochDay + netCalories.length) {
+            long newFirstEpochDay = Math.min(firstEpochDay, epochDay);
+            long lastEpochDay = Math.max(firstEpochDay + netCalories.length, epochDay + 1);
+            int capacity = netCalories.length;
+            while (newFirstEpochDay + capacity < lastEpochDay) {
+                capacity *= 2;
+            }
+            if (epochDay < firstEpochDay) {
+                newFirstEpochDay = lastEpochDay - capacity;
+            }
+            resize(newFirstEpochDay, capacity);
+        }
+        return (int) (epochDay - firstEpochDay);
+    }
+
+    /**
+     * Moves the totals to a new range of epoch days and rebuilds the trees in linear time.
+     */
+    private void resize(long newFirstEpochDay, int capacity) {
+        int shift = netCalories.length == 0 ? 0 : (int) (firstEpochDay - newFirstEpochDay);
+        int[] newNetCalories = new int[capacity];
+        int[] newActivityCounts = new int[capacity];
+        System.arraycopy(netCalories, 0, newNetCalories, shift, netCalories.length);
+        System.arraycopy(activityCounts, 0, newActivityCounts, shift, activityCounts.length);
+        netCalories = newNetCalories;
+        activityCounts = newActivityCounts;
+        firstEpochDay = newFirstEpochDay;
+
+        netCalorieTree = new long[capacity + 1];
+        dayTree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            netCalorieTree[i] += netCalories[i - 1];
+            dayTree[i] += activityCounts[i - 1] > 0 ? 1 : 0;
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                netCalorieTree[parent] += netCalorieTree[i];
+                dayTree[parent] += dayTree[i];
+            }
+        }
+    }
+
+    private static void add(long[] tree, int position, long change) {
+        for (int i = position; i < tree.length; i += i & -i) {
+            tree[i] += change;
+        }
+    }
+
+    private static void add(int[] tree, int position, int change) {
+        for (int i = position; i < tree.length; i += i & -i) {
+            tree[i] += change;
+        }
+    }
+
+    private static long sum(long[] tree, int position) {
+        long total = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            total += tree[i];
+        }
+        return total;
+    }
+
+    private static long sum(int[] tree, int position) {
+        long total = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            total += tree[i];
+        }
+        return total;
+    }
+}
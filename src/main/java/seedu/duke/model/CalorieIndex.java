@@ -0,0 +1,65 @@
+package seedu.duke.model;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Sorted index from a calorie count to the dates having activities with that calorie count.
+ * A single calorie count is looked up directly and a range of calorie counts is a scan of the sorted keys in it.
+ */
+public class CalorieIndex {
+    /** Number of activities with a calorie count, for each date having such activities. */
+    private final TreeMap<Integer, HashMap<LocalDate, Integer>> postings = new TreeMap<>();
+
+    /**
+     * Adds the calorie count of an activity under its date.
+     *
+     * @param date date of the activity
+     * @param activity activity to add
+     */
+    public void addActivity(LocalDate date, Activity activity) {
+        postings.computeIfAbsent(activity.getActivityCalories(), key -> new HashMap<>()).merge(date, 1, Integer::sum);
+    }
+
+    /**
+     * Removes the calorie count of an activity from its date.
+     *
+     * @param date date of the activity
+     * @param activity activity to remove
+     */
+    public void removeActivity(LocalDate date, Activity activity) {
+        int calories = activity.getActivityCalories();
+        HashMap<LocalDate, Integer> dates = postings.get(calories);
+        if (dates == null) {
+            return;
+        }
+        dates.computeIfPresent(date, (key, count) -> count == 1 ? null : count - 1);
+        if (dates.isEmpty()) {
+            postings.remove(calories);
+        }
+    }
+
+    /**
+     * Returns the dates having an activity with a calorie count between minCalories and maxCalories inclusive.
+     *
+     * @param minCalories smallest calorie count to look up
+     * @param maxCalories largest calorie count to look up
+     * @return dates having a matching activity
+     */
+    public Set<LocalDate> getDatesWithCaloriesBetween(int minCalories, int maxCalories) {
+        Set<LocalDate> dates = new HashSet<>();
+        if (minCalories > maxCalories) {
+            return dates;
+        }
+        Collection<HashMap<LocalDate, Integer>> datesInRange =
+                postings.subMap(minCalories, true, maxCalories, true).values();
+        for (HashMap<LocalDate, Integer> calorieDates : datesInRange) {
+            dates.addAll(calorieDates.keySet());
+        }
+        return dates;
+    }
+}
@@ -2,29 +2,62 @@ package seedu.duke.model;
 
 import seedu.duke.exception.KeywordNotFoundException;
 import seedu.duke.exception.ListNotFoundException;
+import seedu.duke.ui.Ui;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import static seedu.duke.ui.Ui.displayEmptyActivityCounterMessage;
 
 
 /**
- * Use hashmap of to store all the data.
- * The key of the hashmap would be the date and the value would be the activityList for that day.
+ * Use a sorted map to store all the data.
+ * The key of the map would be the date and the value would be the activityList for that day.
+ * Dates are kept in order so that ranges of dates can be read without sorting.
+ * Dates added through addUnloadedDay map to null until their activityList is first needed,
+ * at which point it is loaded from the daySource.
+ * The words and calories of every loaded activity are kept in a keywordIndex and a calorieIndex,
+ * so that finds only visit the dates that can match, and the net calories of every loaded date are kept
+ * in calorieAggregates, so that totals over ranges of dates are found without visiting each date.
  */
 public class DayMap {
 
-    private HashMap<LocalDate, ActivityList> dayMap;
+    private TreeMap<LocalDate, ActivityList> dayMap;
     private ActivityList lastSeenList;
+    private TreeSet<LocalDate> changedDates;
+    private DaySource daySource;
+    private KeywordIndex keywordIndex;
+    private CalorieIndex calorieIndex;
+    private CalorieAggregates calorieAggregates;
+    private TreeSet<LocalDate> unloadedDates;
+
+    /** Activity list of each date changed in the current transaction as it was before, or null if it had none. */
+    private HashMap<LocalDate, ActivityList> transactionLists;
+    /** Activities of each date changed in the current transaction as they were before. */
+    private HashMap<LocalDate, ActivityList> transactionActivities;
+    private TreeSet<LocalDate> transactionChangedDates;
+    private ActivityList transactionLastSeenList;
+    private ActivityList transactionLastSeenActivities;
 
     public DayMap() {
-        this.dayMap = new HashMap<>();
+        this.dayMap = new TreeMap<>();
         this.lastSeenList = new ActivityList();
+        this.changedDates = new TreeSet<>();
+        this.keywordIndex = new KeywordIndex();
+        this.calorieIndex = new CalorieIndex();
+        this.calorieAggregates = new CalorieAggregates();
+        this.unloadedDates = new TreeSet<>();
     }
 
     /**
@@ -69,35 +102,336 @@ public class DayMap {
      * @param activity Description of the activity, the userinput
      */
     public void addActivity(LocalDateTime dateTime, Activity activity) {
+        recordDay(dateTime.toLocalDate());
         ActivityList alist = this.getActivityList(dateTime);
         if (alist == null) {
             dayMap.put(dateTime.toLocalDate(), new ActivityList());
             alist = this.getActivityList(dateTime);
         }
         alist.addActivity(activity);
+        indexActivity(dateTime.toLocalDate(), activity);
+        changedDates.add(dateTime.toLocalDate());
         //System.out.println("Total calorie count for "
         // + dateTime.toLocalDate().toString() + " = " + alist.getNetCalorie());
     }
 
+    /**
+     * Adds many activities under the same date, looking up the activityList of the date only once.
+     * @param date date of the activities
+     * @param activities activities to add, in order
+     */
+    public void addActivities(LocalDate date, List<Activity> activities) {
+        recordDay(date);
+        ActivityList alist = getActivityList(date.atStartOfDay());
+        if (alist == null) {
+            alist = new ActivityList();
+            dayMap.put(date, alist);
+        }
+        for (Activity activity : activities) {
+            alist.addActivity(activity);
+            indexActivity(date, activity);
+        }
+        changedDates.add(date);
+    }
 
     /**
      * This function removes an activity and replaces it with a new one, to work with edit command.
+     * The activity is also replaced in the activityList of its own date, which is found directly from its date.
      * @param index the index of the activity to be deleted
      * @param activity the activity to replace the old one.
      */
     public void insertActivity(int index, Activity activity) {
+        Activity activityToReplace = lastSeenList.getActivity(index);
+        LocalDate date = activityToReplace.getActivityDate();
+        recordDay(date);
         lastSeenList.insertActivity(index, activity);
 
+        ActivityList owningList = dayMap.get(date);
+        if (owningList == null) {
+            return;
+        }
+        if (owningList != lastSeenList) {
+            int owningIndex = owningList.indexOfActivity(activityToReplace);
+            if (owningIndex < 0) {
+                return;
+            }
+            owningList.insertActivity(owningIndex, activity);
+        }
+        unindexActivity(date, activityToReplace);
+        indexActivity(date, activity);
+        changedDates.add(date);
+    }
+
+    /**
+     * Removes all the activities of the given date.
+     * The last seen list is cleared as well, as the user is deleting the list that was shown to them.
+     * @param date the date of which all activities should be removed
+     */
+    public void deleteAllActivities(LocalDate date) {
+        for (int i = 0; i < lastSeenList.getNumberOfActivities(); i++) {
+            recordDay(lastSeenList.getDateOfActivityAtIndex(i));
+            changedDates.add(lastSeenList.getDateOfActivityAtIndex(i));
+        }
+        if (isDayList(lastSeenList)) {
+            unindexActivities(lastSeenList.getDateOfActivityAtIndex(0), lastSeenList);
+        }
+        lastSeenList.clearList();
+        removeDay(date);
+    }
+
+    /**
+     * Adds a whole list of activities under the given date, replacing the activities already stored for it.
+     * @param date the date of the activities
+     * @param activityList the activities of the date
+     */
+    public void addDay(LocalDate date, ActivityList activityList) {
+        recordDay(date);
+        ActivityList replacedList = dayMap.put(date, activityList);
+        unloadedDates.remove(date);
+        if (replacedList != null) {
+            unindexActivities(date, replacedList);
+        }
+        indexActivities(date, activityList);
+        changedDates.add(date);
+    }
+
+    /**
+     * Removes the given date together with its activities.
+     * @param date the date to be removed
+     */
+    public void removeDay(LocalDate date) {
+        recordDay(date);
+        ActivityList removedList = dayMap.remove(date);
+        unloadedDates.remove(date);
+        if (removedList != null) {
+            unindexActivities(date, removedList);
+        }
+        changedDates.add(date);
+    }
+
+    /**
+     * Starts a transaction, after which every change can be undone together by rollbackTransaction.
+     * Only the dates changed in the transaction are copied, when they are first changed.
+     */
+    public void beginTransaction() {
+        transactionLists = new HashMap<>();
+        transactionActivities = new HashMap<>();
+        transactionChangedDates = new TreeSet<>(changedDates);
+        transactionLastSeenList = lastSeenList;
+        transactionLastSeenActivities = new ActivityList();
+        if (lastSeenList != null) {
+            transactionLastSeenActivities.setActivities(lastSeenList);
+        }
+    }
+
+    /**
+     * Checks if a transaction has been started and not yet committed or rolled back.
+     * @return true if a transaction is open
+     */
+    public boolean isInTransaction() {
+        return transactionLists != null;
+    }
+
+    /**
+     * Ends the current transaction, keeping its changes.
+     */
+    public void commitTransaction() {
+        transactionLists = null;
+        transactionActivities = null;
+        transactionChangedDates = null;
+        transactionLastSeenList = null;
+        transactionLastSeenActivities = null;
+    }
+
+    /**
+     * Ends the current transaction, undoing its changes to the dates, the indexes and the last seen list.
+     */
+    public void rollbackTransaction() {
+        if (transactionLists == null) {
+            return;
+        }
+        for (Map.Entry<LocalDate, ActivityList> day : transactionLists.entrySet()) {
+            LocalDate date = day.getKey();
+            ActivityList changedList = dayMap.remove(date);
+            if (changedList != null) {
+                unindexActivities(date, changedList);
+            }
+            ActivityList originalList = day.getValue();
+            if (originalList != null) {
+                originalList.setActivities(transactionActivities.get(date));
+                dayMap.put(date, originalList);
+                indexActivities(date, originalList);
+            }
+        }
+        lastSeenList = transactionLastSeenList;
+        if (lastSeenList != null) {
+            lastSeenList.setActivities(transactionLastSeenActivities);
+        }
+        changedDates = transactionChangedDates;
+        commitTransaction();
+    }
+
+    /**
+     * Copies the activities of a date before its first change in the current transaction, if there is one.
+     * @param date date about to be changed
+     */
+    private void recordDay(LocalDate date) {
+        if (transactionLists == null || transactionLists.containsKey(date)) {
+            return;
+        }
+        ActivityList activityList = getActivityList(date.atStartOfDay());
+        transactionLists.put(date, activityList);
+        if (activityList != null) {
+            ActivityList activities = new ActivityList();
+            activities.setActivities(activityList);
+            transactionActivities.put(date, activities);
+        }
     }
 
+    /**
+     * Returns the dates whose activities were changed since the last call to clearChangedDates.
+     * @return set of changed dates, in date order
+     */
+    public Set<LocalDate> getChangedDates() {
+        return changedDates;
+    }
 
     /**
-     * Returns the activityList of the specified date.
+     * Clears the record of changed dates, usually after they have been saved.
+     */
+    public void clearChangedDates() {
+        changedDates.clear();
+    }
+
+
+    /**
+     * Returns the activityList of the specified date, loading it from the daySource if it was not loaded yet.
      * @param dateTime is the date specified to extract the list from
      * @return activityList
      */
     public ActivityList getActivityList(LocalDateTime dateTime) {
-        return dayMap.get(dateTime.toLocalDate());
+        LocalDate date = dateTime.toLocalDate();
+        ActivityList alist = dayMap.get(date);
+        if (alist == null && dayMap.containsKey(date)) {
+            alist = daySource.loadDay(date);
+            dayMap.put(date, alist);
+            unloadedDates.remove(date);
+            indexActivities(date, alist);
+        }
+        return alist;
+    }
+
+    /**
+     * Adds an activity to the find indexes under the given date.
+     * @param date date of the activity
+     * @param activity activity to add
+     */
+    private void indexActivity(LocalDate date, Activity activity) {
+        keywordIndex.addActivity(date, activity);
+        calorieIndex.addActivity(date, activity);
+        calorieAggregates.addActivity(date, activity);
+    }
+
+    /**
+     * Removes an activity from the find indexes under the given date.
+     * @param date date of the activity
+     * @param activity activity to remove
+     */
+    private void unindexActivity(LocalDate date, Activity activity) {
+        keywordIndex.removeActivity(date, activity);
+        calorieIndex.removeActivity(date, activity);
+        calorieAggregates.removeActivity(date, activity);
+    }
+
+    private void indexActivities(LocalDate date, ActivityList activityList) {
+        for (int i = 0; i < activityList.getNumberOfActivities(); i++) {
+            indexActivity(date, activityList.getActivity(i));
+        }
+    }
+
+    private void unindexActivities(LocalDate date, ActivityList activityList) {
+        for (int i = 0; i < activityList.getNumberOfActivities(); i++) {
+            unindexActivity(date, activityList.getActivity(i));
+        }
+    }
+
+    /**
+     * Checks if the list is the activityList of a date rather than a list of find results.
+     * Only changes made through the activityList of a date change the words of that date.
+     * @param activityList list to check
+     * @return true if the list is stored in the dayMap
+     */
+    private boolean isDayList(ActivityList activityList) {
+        return activityList.getNumberOfActivities() > 0
+                && dayMap.get(activityList.getDateOfActivityAtIndex(0)) == activityList;
+    }
+
+    /**
+     * Sets the source to load the activities of unloaded dates from, closing the source it replaces.
+     * @param daySource source of the unloaded dates
+     */
+    public void setDaySource(DaySource daySource) {
+        if (this.daySource != null && this.daySource != daySource) {
+            this.daySource.close();
+        }
+        this.daySource = daySource;
+    }
+
+    /**
+     * Adds a date whose activities are only loaded from the daySource when they are first needed.
+     * @param date date that has activities in the daySource
+     */
+    public void addUnloadedDay(LocalDate date) {
+        if (!dayMap.containsKey(date)) {
+            dayMap.put(date, null);
+            unloadedDates.add(date);
+        }
+    }
+
+    /**
+     * Loads the activities of every date that has not been loaded yet.
+     */
+    private void loadAllDays() {
+        loadDays(unloadedDates);
+    }
+
+    /**
+     * Loads the activities of the given dates that have not been loaded yet.
+     * @param dates dates to load, which may be a view of unloadedDates
+     */
+    private void loadDays(Set<LocalDate> dates) {
+        for (LocalDate date : new ArrayList<>(dates)) {
+            getActivityList(date.atStartOfDay());
+        }
+    }
+
+    /**
+     * Returns the net calories of all activities from startDate to endDate inclusive.
+     * Dates in the range that were not loaded yet are loaded first, so later totals need no loading at all.
+     * @param startDate first date of the range
+     * @param endDate last date of the range
+     * @return net calories of the range
+     */
+    public long getNetCaloriesBetween(LocalDate startDate, LocalDate endDate) {
+        loadDaysBetween(startDate, endDate);
+        return calorieAggregates.getNetCalories(startDate, endDate);
+    }
+
+    /**
+     * Returns the number of dates with activities from startDate to endDate inclusive.
+     * @param startDate first date of the range
+     * @param endDate last date of the range
+     * @return number of dates with activities in the range
+     */
+    public int getNumberOfDaysBetween(LocalDate startDate, LocalDate endDate) {
+        loadDaysBetween(startDate, endDate);
+        return calorieAggregates.getNumberOfDays(startDate, endDate);
+    }
+
+    private void loadDaysBetween(LocalDate startDate, LocalDate endDate) {
+        if (!startDate.isAfter(endDate)) {
+            loadDays(unloadedDates.subSet(startDate, true, endDate, true));
+        }
     }
 
     /**
@@ -124,10 +458,53 @@ public class DayMap {
         return alist.getNetCalorie();
     }
 
-    public HashMap<LocalDate, ActivityList> getHashMap() {
+    public TreeMap<LocalDate, ActivityList> getHashMap() {
         return dayMap;
     }
 
+    /**
+     * Returns the dates from startDate to endDate inclusive that have activities, in date order.
+     * @param startDate first date of the range
+     * @param endDate last date of the range
+     * @return view of the dates in the range
+     */
+    public NavigableSet<LocalDate> getDatesBetween(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return new TreeSet<>();
+        }
+        return dayMap.navigableKeySet().subSet(startDate, true, endDate, true);
+    }
+
+    /**
+     * Returns the latest dates that have activities, up to the given number of dates, in date order.
+     * @param numberOfDates maximum number of dates to return
+     * @return the latest dates
+     */
+    public List<LocalDate> getLastDates(int numberOfDates) {
+        LinkedList<LocalDate> dates = new LinkedList<>();
+        Iterator<LocalDate> latestFirst = dayMap.descendingKeySet().iterator();
+        while (latestFirst.hasNext() && dates.size() < numberOfDates) {
+            dates.addFirst(latestFirst.next());
+        }
+        return dates;
+    }
+
+    /**
+     * Sets the last seen list to the activities from startDate to endDate inclusive, in date order.
+     * @param startDate first date of the range
+     * @param endDate last date of the range
+     * @throws ListNotFoundException when there are no activities in the range
+     */
+    public void listActivitiesBetween(LocalDate startDate, LocalDate endDate) throws ListNotFoundException {
+        setLastSeenList(new ActivityList());
+        for (LocalDate date : new ArrayList<>(getDatesBetween(startDate, endDate))) {
+            lastSeenList.addActivities(getActivityList(date.atStartOfDay()));
+        }
+        if (lastSeenList.getNumberOfActivities() == 0) {
+            throw new ListNotFoundException();
+        }
+    }
+
     /**
      * Prints the activities for the given date.
      * @param date specified date to print the list
@@ -146,60 +523,37 @@ public class DayMap {
      * @throws KeywordNotFoundException when the keyword is not found in any activity
      */
     public void listActivitiesContainingDescription(String description) throws KeywordNotFoundException {
+        loadAllDays();
         setLastSeenList(new ActivityList());
-        Iterator it = dayMap.entrySet().iterator();
-        int activityFindCounter = 0;
-        while (it.hasNext()) {
-            Map.Entry pair = (Map.Entry) it.next();
-            String date = pair.getKey().toString();
-            ActivityList activities = (ActivityList) pair.getValue();
-            int activityCounter = activities.getNumberOfActivities();
-            if (activityCounter > 0) {
-                for (int i = 0; i < activityCounter; i++) {
-                    String currentLine = activities.getActivity(i).toString();
-                    String descriptionToCheck = currentLine.substring(currentLine.indexOf("|") + 1);
-                    descriptionToCheck = descriptionToCheck.substring(0, descriptionToCheck.indexOf("|")).trim();
-                    if (descriptionToCheck.contains(description)) {
-                        //System.out.println((activityFindCounter + 1) + ". " + date + " " + currentLine);
-                        lastSeenList.addActivity(activities.getActivity(i));
-                        activityFindCounter++;
-                    }
+        Set<LocalDate> candidateDates = keywordIndex.getDatesContaining(description, dayMap.keySet());
+        for (LocalDate date : sortLatestFirst(candidateDates)) {
+            ActivityList activities = dayMap.get(date);
+            for (int i = 0; i < activities.getNumberOfActivities(); i++) {
+                Activity activity = activities.getActivity(i);
+                if (activity.getActivityDescription().trim().contains(description)) {
+                    lastSeenList.addActivity(activity);
                 }
             }
         }
-        if (activityFindCounter == 0) {
+        if (lastSeenList.getNumberOfActivities() == 0) {
             throw new KeywordNotFoundException();
         }
     }
 
     /**
-     * Finds the activities containing a keyword.
-     * @param calorie is the calorie to be matched
-     * @throws KeywordNotFoundException when the keyword is not found in any activity
+     * Finds the activities with calories between minCalories and maxCalories inclusive.
+     * @param minCalories is the smallest calorie count to be matched
+     * @param maxCalories is the largest calorie count to be matched
+     * @throws KeywordNotFoundException when no activity has calories in the range
      */
-    public void listActivitiesContainingCalorie(String calorie) throws KeywordNotFoundException {
+    public void listActivitiesContainingCalorie(int minCalories, int maxCalories) throws KeywordNotFoundException {
+        loadAllDays();
         setLastSeenList(new ActivityList());
-        Iterator it = dayMap.entrySet().iterator();
-        int activityFindCounter = 0;
-        while (it.hasNext()) {
-            Map.Entry pair = (Map.Entry) it.next();
-            String date = pair.getKey().toString();
-            ActivityList activities = (ActivityList) pair.getValue();
-            int activityCounter = activities.getNumberOfActivities();
-            if (activityCounter > 0) {
-                for (int i = 0; i < activityCounter; i++) {
-                    String currentLine = activities.getActivity(i).toString();
-                    int calorieStartIndex = currentLine.lastIndexOf(' ');
-                    String calorieToCheck = currentLine.substring(calorieStartIndex).trim();
-                    if (calorieToCheck.equals(calorie)) {
-                        System.out.println((activityFindCounter + 1) + ". " + date + " " + currentLine);
-                        lastSeenList.addActivity(activities.getActivity(i));
-                        activityFindCounter++;
-                    }
-                }
-            }
+        Set<LocalDate> candidateDates = calorieIndex.getDatesWithCaloriesBetween(minCalories, maxCalories);
+        for (LocalDate date : sortLatestFirst(candidateDates)) {
+            lastSeenList.addActivitiesWithCaloriesBetween(dayMap.get(date), minCalories, maxCalories);
         }
-        if (activityFindCounter == 0) {
+        if (lastSeenList.getNumberOfActivities() == 0) {
             throw new KeywordNotFoundException();
         }
     }
@@ -210,27 +564,19 @@ public class DayMap {
      * @throws KeywordNotFoundException when the keyword is not found in any activity
      */
     public void listActivitiesContainingAll(String userInput) throws KeywordNotFoundException {
+        loadAllDays();
         setLastSeenList(new ActivityList());
-        Iterator it = dayMap.entrySet().iterator();
-        int activityFindCounter = 0;
-        while (it.hasNext()) {
-            Map.Entry pair = (Map.Entry) it.next();
-            String date = pair.getKey().toString();
-            ActivityList activities = (ActivityList) pair.getValue();
-            int activityCounter = activities.getNumberOfActivities();
-            if (activityCounter > 0) {
-                for (int i = 0; i < activityCounter; i++) {
-                    boolean hasAllWords;
-                    String currentLine = activities.getActivity(i).toString();
-                    hasAllWords = checkAllWords(currentLine, userInput);
-                    if (hasAllWords) {
-                        lastSeenList.addActivity(activities.getActivity(i));
-                        activityFindCounter++;
-                    }
+        ArrayList<String> wordsToCheck = getAllTags(userInput);
+        Set<LocalDate> candidateDates = keywordIndex.getDatesContainingAll(wordsToCheck, dayMap.keySet());
+        for (LocalDate date : sortLatestFirst(candidateDates)) {
+            ActivityList activities = dayMap.get(date);
+            for (int i = 0; i < activities.getNumberOfActivities(); i++) {
+                if (checkAllWords(activities.getActivity(i).toString(), wordsToCheck)) {
+                    lastSeenList.addActivity(activities.getActivity(i));
                 }
             }
         }
-        if (activityFindCounter == 0) {
+        if (lastSeenList.getNumberOfActivities() == 0) {
             throw new KeywordNotFoundException();
         }
     }
@@ -241,39 +587,41 @@ public class DayMap {
      * @throws KeywordNotFoundException when the keyword is not found in any activity
      */
     public void listActivitiesContainingEither(String userInput) throws KeywordNotFoundException {
+        loadAllDays();
         setLastSeenList(new ActivityList());
-        Iterator it = dayMap.entrySet().iterator();
-        int activityFindCounter = 0;
-        while (it.hasNext()) {
-            Map.Entry pair = (Map.Entry) it.next();
-            String date = pair.getKey().toString();
-            ActivityList activities = (ActivityList) pair.getValue();
-            int activityCounter = activities.getNumberOfActivities();
-            if (activityCounter > 0) {
-                for (int i = 0; i < activityCounter; i++) {
-                    boolean hasOneWord;
-                    String currentLine = activities.getActivity(i).toString();
-                    hasOneWord = checkEitherWords(currentLine, userInput);
-                    if (hasOneWord) {
-                        lastSeenList.addActivity(activities.getActivity(i));
-                        activityFindCounter++;
-                    }
+        ArrayList<String> wordsToCheck = getAllTags(userInput);
+        Set<LocalDate> candidateDates = keywordIndex.getDatesContainingEither(wordsToCheck, dayMap.keySet());
+        for (LocalDate date : sortLatestFirst(candidateDates)) {
+            ActivityList activities = dayMap.get(date);
+            for (int i = 0; i < activities.getNumberOfActivities(); i++) {
+                if (checkEitherWords(activities.getActivity(i).toString(), wordsToCheck)) {
+                    lastSeenList.addActivity(activities.getActivity(i));
                 }
             }
         }
-        if (activityFindCounter == 0) {
+        if (lastSeenList.getNumberOfActivities() == 0) {
             throw new KeywordNotFoundException();
         }
     }
 
+    /**
+     * Sorts the dates from the latest to the earliest, the order in which find results are listed.
+     * @param dates dates to sort
+     * @return sorted dates
+     */
+    private static List<LocalDate> sortLatestFirst(Set<LocalDate> dates) {
+        List<LocalDate> sortedDates = new ArrayList<>(dates);
+        sortedDates.sort(Collections.reverseOrder());
+        return sortedDates;
+    }
+
     /**
      * Checks if all keywords inputted by user is present in entry.
      * @param currentLine current entry to be checked
+     * @param wordsToCheck keywords inputted by user
      * @return true if all words are present, false otherwise
      */
-    private boolean checkAllWords(String currentLine, String userInput) {
-        ArrayList<String> wordsToCheck = new ArrayList<>();
-        wordsToCheck = getAllTags(userInput);
+    private boolean checkAllWords(String currentLine, List<String> wordsToCheck) {
         for (String word : wordsToCheck) {
             if (!currentLine.contains(word)) {
                 return false;
@@ -285,11 +633,10 @@ public class DayMap {
     /**
      * Checks if one of the keywords inputted by user is present in entry.
      * @param currentLine current entry to be checked
+     * @param wordsToCheck keywords inputted by user
      * @return  hasOneWord true if just one word is present, false otherwise
      */
-    private boolean checkEitherWords(String currentLine, String userInput) {
-        ArrayList<String> wordsToCheck = new ArrayList<>();
-        wordsToCheck = getAllTags(userInput);
+    private boolean checkEitherWords(String currentLine, List<String> wordsToCheck) {
         for (String word : wordsToCheck) {
             if (currentLine.contains(word)) {
                 return true;
@@ -318,54 +665,40 @@ public class DayMap {
 
     /**
      * Deletes the activity with a given index.
+     * The activity is also removed from the activityList of its own date, which is found directly from its date,
+     * and the date is removed once it has no more activities.
      * @param index is the index of the activity to be deleted
      * @throws IndexOutOfBoundsException if the index provided is out of range
      */
     public void deleteActivity(int index) throws IndexOutOfBoundsException {
-
-        if (lastSeenList.isValidIndex(index)) {
-            Activity activityToMatch = lastSeenList.getActivity(index);
-            //if previous command was the list command then this will straight away delete the activity
-            // from the list in the daymap
-            lastSeenList.removeActivity(index);
-
-            //if all the activities in a date is deleted, this is the key to be removed from the daymap
-            LocalDate keyToDelete = null;
-
-            //iterating through the entire daymap to find the activity to delete
-            Iterator it = dayMap.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry pair = (Map.Entry) it.next();
-                ActivityList activities = (ActivityList) pair.getValue();
-                int activityCounter = activities.getNumberOfActivities();
-
-                if (activityCounter > 0) {
-                    for (int i = 0; i < activityCounter; i++) {
-                        if (activityToMatch.equals(activities.getActivity(i))) {
-                            activities.removeActivity(i);
-                            //if deleted the last item in the ActivityList then obtain the key to be deleted from daymap
-                            if (activities.getNumberOfActivities() == 0) {
-                                keyToDelete = (LocalDate) pair.getKey();
-                            }
-                            break;
-                        }
-                    }
-                    //If encountered a activitylist with a count of 0,
-                    // which will be resulted if deleted the last item of ActivityList from a list command
-                } else if (activityCounter == 0) {
-                    keyToDelete = (LocalDate)pair.getKey();
-                }
-            }
-            //removes key from the daymap
-            dayMap.remove(keyToDelete);
-            //displaySavedMessage();
-        } else {
+        if (!lastSeenList.isValidIndex(index)) {
             throw new IndexOutOfBoundsException();
         }
-
+        Activity activityToDelete = lastSeenList.getActivity(index);
+        LocalDate date = activityToDelete.getActivityDate();
+        recordDay(date);
+        //if previous command was the list command then this will straight away delete the activity
+        // from the list in the daymap
+        lastSeenList.removeActivity(index);
+
+        ActivityList owningList = dayMap.get(date);
+        if (owningList == null) {
+            return;
+        }
+        if (owningList != lastSeenList) {
+            int owningIndex = owningList.indexOfActivity(activityToDelete);
+            if (owningIndex < 0) {
+                return;
+            }
+            owningList.removeActivity(owningIndex);
+        }
+        unindexActivity(date, activityToDelete);
+        changedDates.add(date);
+        if (owningList.getNumberOfActivities() == 0) {
+            dayMap.remove(date);
+        }
     }
 
-
     /**
      * Moves an activity from one index to another.
      * @param indexToBeMovedFrom the index to be moved from
@@ -378,7 +711,15 @@ public class DayMap {
         if (lastSeenList.getNumberOfActivities() == 0) {
             throw new ListNotFoundException();
         } else {
+            // Reordering a find result changes the order of no day, so only a day's own list is saved
+            boolean isDay = isDayList(lastSeenList);
+            if (isDay) {
+                recordDay(lastSeenList.getDateOfActivityAtIndex(0));
+            }
             lastSeenList.moveActivity(indexToBeMovedFrom - 1, indexToBeInsertedBelow);
+            if (isDay) {
+                changedDates.add(lastSeenList.getDateOfActivityAtIndex(indexToBeInsertedBelow));
+            }
         }
     }
 
@@ -398,7 +739,7 @@ public class DayMap {
      * @param date is the date specified to extract the activitylist from
      */
     public void printList(LocalDate date) {
-        System.out.println(date.toString());
+        Ui.getOutput().println(date.toString());
         getActivityList(date.atStartOfDay()).printList();
     }
 }
@@ -0,0 +1,22 @@
+package seedu.duke.model;
+
+import java.time.LocalDate;
+
+/**
+ * Source of the activities of dates that are known to the DayMap but have not been loaded yet.
+ */
+public interface DaySource {
+    /**
+     * Loads the activities of the given date.
+     *
+     * @param date date to load the activities of
+     * @return list of activities of the date
+     */
+    ActivityList loadDay(LocalDate date);
+
+    /**
+     * Releases the files held open by the source. Sources that hold no files open need not do anything.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.duke.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Pool of the descriptions of all activities, so that a description repeated over many days, such as "rice",
+ * is kept once and every activity refers to it by an int id.
+ * Descriptions are never removed, as the different descriptions of a user are few compared to their activities.
+ * Activities are created on the input thread and on the compactor thread, so interning is synchronized. An id is
+ * only read by a thread that was handed the activity or list holding it, which publishes the description as well.
+ */
+public class DescriptionPool {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final HashMap<String, Integer> ids = new HashMap<>();
+    private static volatile String[] descriptions = new String[INITIAL_CAPACITY];
+    private static int numberOfDescriptions;
+
+    /**
+     * Returns the id of a description, adding it to the pool if it is new.
+     *
+     * @param description description to look up
+     * @return id of the description
+     */
+    public static synchronized int intern(String description) {
+        Integer id = ids.get(description);
+        if (id != null) {
+            return id;
+        }
+        String[] pooledDescriptions = descriptions;
+        if (numberOfDescriptions == pooledDescriptions.length) {
+            pooledDescriptions = Arrays.copyOf(pooledDescriptions, numberOfDescriptions * 2);
+        }
+        pooledDescriptions[numberOfDescriptions] = description;
+        descriptions = pooledDescriptions;
+        ids.put(description, numberOfDescriptions);
+        return numberOfDescriptions++;
+    }
+
+    /**
+     * Returns the description of an id given by intern.
+     *
+     * @param id id of the description
+     * @return the description
+     */
+    public static String get(int id) {
+        return descriptions[id];
+    }
+
+    /**
+     * Returns the number of different descriptions in the pool.
+     *
+     * @return number of descriptions
+     */
+    public static synchronized int getNumberOfDescriptions() {
+        return numberOfDescriptions;
+    }
+}
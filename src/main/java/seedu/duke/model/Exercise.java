@@ -12,8 +12,15 @@ public class Exercise extends Activity {
      * @param description exercise description
      * @param calories calories burnt
      */
-    public Exercise(String description, int calories, LocalDate date, boolean isFromFile) {
-        super(description, calories, date, isFromFile);
+    public Exercise(String description, int calories, LocalDate date) {
+        super(description, calories, date);
+    }
+
+    /**
+     * Constructor of a exercise read from the columns of an ActivityList.
+     */
+    Exercise(int serial, int descriptionId, int calories, int epochDay) {
+        super(serial, descriptionId, calories, epochDay);
     }
 
     /**
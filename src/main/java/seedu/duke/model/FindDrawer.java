@@ -1,7 +1,10 @@
 package seedu.duke.model;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import seedu.duke.ui.Ui;
+
+import java.io.PrintStream;
+
+import static seedu.duke.ui.Ui.displayPageOutOfRangeMessage;
 
 /**
  * This class is used to create a responsive interface for the listing feature after a list command.
@@ -30,99 +33,72 @@ public class FindDrawer extends ListDrawer {
      */
     @Override
     public void printList() {
-        System.out.println(listHeaderString()
-                + NEWLINE
-                + increaseStringLength(DIVIDER, listHeaderString().length())
-                + NEWLINE
-                + allActivityString());
+        PrintStream output = Ui.getOutput();
+        printTable(output, 0, activityList.getNumberOfActivities());
+        output.println();
+    }
+
+    /**
+     * Prints a single page of the list of activities, keeping the index of each activity in the whole list.
+     * @param page page number starting from 1
+     */
+    public void printPage(int page) {
+        int numberOfActivities = activityList.getNumberOfActivities();
+        int numberOfPages = Math.max(1, (numberOfActivities + PAGE_SIZE - 1) / PAGE_SIZE);
+        if (page < 1 || page > numberOfPages) {
+            displayPageOutOfRangeMessage(page, numberOfPages);
+            return;
+        }
+        PrintStream output = Ui.getOutput();
+        int start = (page - 1) * PAGE_SIZE;
+        printTable(output, start, Math.min(start + PAGE_SIZE, numberOfActivities));
+        output.println();
+        output.println("Page " + page + " of " + numberOfPages + ", add --page N to the command to see page N");
     }
 
     /**
-     * Generates the string for a single activity.
+     * Appends the row of a single activity together with its date.
+     * @param output builder to append to
      * @param index index of the activity
-     * @return string of single activity
      */
     @Override
-    protected String singleActivityString(int index) {
-        ArrayList<String> descriptions = new ArrayList<>();
-        String restOfDescription = "";
-
+    protected void appendSingleActivity(StringBuilder output, int index) {
+        Activity activity = activityList.getActivity(index);
         String indexString = Integer.toString(index + 1);
+        output.append(indexString);
         int lengthOfIndex = indexString.length();
 
-        String descriptionString = activityList.getActivity(index).getActivityDescription();
-        int lengthOfDescription = descriptionString.length();
-
-
-        String dateString = activityList.getActivity(index).getActivityDate().toString();
-        int lengthOfDateString = dateString.length();
+        int lengthLeftForWhiteSpaceDate = START_INDEX_FOR_ACTIVITY_DATE - lengthOfIndex;
+        appendRepeated(output, " ", lengthLeftForWhiteSpaceDate);
+        String dateString = activity.getActivityDate().toString();
+        output.append(dateString);
 
         String typeString;
-        int lengthOfType;
-
-        int lengthLeftForWhiteSpaceDate = START_INDEX_FOR_ACTIVITY_DATE - lengthOfIndex;
         int lengthLeftForWhiteSpaceType;
-        int lengthLeftForWhiteSpace;
-
-
-
-        if (activityList.getActivity(index) instanceof Food) {
+        if (activity instanceof Food) {
             typeString = FOOD_TYPE;
-            lengthOfType = FOOD_TYPE.length();
             lengthLeftForWhiteSpaceType = START_INDEX_FOR_FOOD_TYPE - lengthOfIndex - lengthLeftForWhiteSpaceDate;
-
         } else {
             typeString = EXERCISE_TYPE;
-            lengthOfType = EXERCISE_TYPE.length();
             lengthLeftForWhiteSpaceType = START_INDEX_FOR_EXERCISE_TYPE - lengthOfIndex - lengthLeftForWhiteSpaceDate;
         }
-
+        appendRepeated(output, " ", lengthLeftForWhiteSpaceType);
+        output.append(typeString);
+        int lengthOfType = typeString.length();
 
         int lengthLeftForWhiteSpaceDescription = START_INDEX_FOR_DESCRIPTION - lengthOfIndex
-                - lengthLeftForWhiteSpaceType - lengthOfType - lengthLeftForWhiteSpaceDate - lengthOfDateString;
-
-
-        if (lengthOfDescription > MAX_STRING_FOR_DESCRIPTION) {
-            lengthLeftForWhiteSpace = START_INDEX_FOR_CALORIES - lengthOfIndex - lengthOfType
-                    - lengthLeftForWhiteSpaceType - lengthLeftForWhiteSpaceDescription - lengthLeftForWhiteSpaceDate
-                    - MAX_STRING_FOR_DESCRIPTION;
-        } else {
-            lengthLeftForWhiteSpace = START_INDEX_FOR_CALORIES - lengthOfIndex - lengthOfType
-                    - lengthLeftForWhiteSpaceType  - lengthLeftForWhiteSpaceDescription - lengthLeftForWhiteSpaceDate
-                    - lengthOfDescription;
-        }
-
-
-        //Extract the rest of the string if the description length exceeds the maximum length
-        while (lengthOfDescription > MAX_STRING_FOR_DESCRIPTION) {
-            String description = descriptionString.substring(0, MAX_STRING_FOR_DESCRIPTION);
-            descriptions.add(description);
-            System.out.println(Arrays.toString(descriptions.toArray()));
-            descriptionString = descriptionString.substring(MAX_STRING_FOR_DESCRIPTION);
-            lengthOfDescription = descriptionString.length();
-
-        }
-        descriptions.add(descriptionString);
-
-
-        if (descriptions.size() > 1) {
-            for (int i = 1; i < descriptions.size(); i++) {
-                restOfDescription = restOfDescription
-                        + increaseStringLength(" ", START_INDEX_FOR_DESCRIPTION)
-                        + descriptions.get(i) + NEWLINE;
-            }
-        }
-
-        String calorieString = Integer.toString(activityList.getActivity(index).getActivityCalories());
-
-        return indexString
-                + increaseStringLength(" ", lengthLeftForWhiteSpaceDate) + dateString
-                + increaseStringLength(" ", lengthLeftForWhiteSpaceType) + typeString
-                + increaseStringLength(" ", lengthLeftForWhiteSpaceDescription) + descriptions.get(0)
-                + increaseStringLength("_", lengthLeftForWhiteSpace) + calorieString
-                + NEWLINE
-                + restOfDescription;
-
+                - lengthLeftForWhiteSpaceType - lengthOfType - lengthLeftForWhiteSpaceDate - dateString.length();
+        appendRepeated(output, " ", lengthLeftForWhiteSpaceDescription);
+        String descriptionString = activity.getActivityDescription();
+        int lengthOfFirstLine = Math.min(descriptionString.length(), MAX_STRING_FOR_DESCRIPTION);
+        output.append(descriptionString, 0, lengthOfFirstLine);
+
+        int lengthLeftForWhiteSpace = START_INDEX_FOR_CALORIES - lengthOfIndex - lengthOfType
+                - lengthLeftForWhiteSpaceType - lengthLeftForWhiteSpaceDescription - lengthLeftForWhiteSpaceDate
+                - lengthOfFirstLine;
+        appendRepeated(output, "_", lengthLeftForWhiteSpace);
+        output.append(activity.getActivityCalories()).append(NEWLINE);
+        appendRestOfDescription(output, descriptionString, MAX_STRING_FOR_DESCRIPTION, START_INDEX_FOR_DESCRIPTION);
     }
 
     /**
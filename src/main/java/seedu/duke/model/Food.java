@@ -12,8 +12,15 @@ public class Food extends Activity {
      * @param description food description
      * @param calories calories consumed
      */
-    public Food(String description, int calories, LocalDate date, boolean isFromFile) {
-        super(description, calories, date, isFromFile);
+    public Food(String description, int calories, LocalDate date) {
+        super(description, calories, date);
+    }
+
+    /**
+     * Constructor of a food read from the columns of an ActivityList.
+     */
+    Food(int serial, int descriptionId, int calories, int epochDay) {
+        super(serial, descriptionId, calories, epochDay);
     }
 
     /**
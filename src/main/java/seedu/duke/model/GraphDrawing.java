@@ -15,12 +15,14 @@ public class GraphDrawing {
     private final int maxCalories;
     private final int minCalories;
     private final int targetCalories;
+    private final int columnWidth;
 
     private static final String BLANK_WIDTH = "   ";
     private static final String TARGET_WIDTH = "***";
     private static final String BAR_WIDTH = "| |";
     private static final String targetBarWidth = "|*|";
     private static final String TOP_BAR_WIDTH = "|-|";
+    private static final int MINIMUM_COLUMN_WIDTH = BAR_WIDTH.length() + BLANK_WIDTH.length();
 
     /**
      * Constructor.
@@ -33,6 +35,8 @@ public class GraphDrawing {
         this.maxCalories = graphProperty.maxCalories;
         this.minCalories = graphProperty.minCalories;
         this.targetCalories = graphProperty.targetCalories;
+        // A column is widened to fit its date label and the space after it
+        this.columnWidth = Math.max(MINIMUM_COLUMN_WIDTH, graphProperty.getLabelLength() + 1);
     }
 
     /**
@@ -44,11 +48,7 @@ public class GraphDrawing {
      */
     public String repeatCharacter(String character, int size) {
         assert size >= 0;
-        String characterText = "";
-        for (int i = 0; i < size; i++) {
-            characterText += character;
-        }
-        return characterText;
+        return character.repeat(size);
     }
 
     /**
@@ -57,12 +57,13 @@ public class GraphDrawing {
      * @return x_axis String
      */
     public String generate_x_axis(int maxCalorieSize, int column) {
-        String horizontalLine = "|-+";
+        StringBuilder horizontalLine = new StringBuilder(maxCalorieSize + columnWidth * column + 1);
+        horizontalLine.append(repeatCharacter(" ", maxCalorieSize)).append("|-+");
+        String columnLine = repeatCharacter("-", columnWidth - 1) + "+";
         for (int i = 0; i < column - 1; i++) {
-            horizontalLine += repeatCharacter("-", 5) + "+";
+            horizontalLine.append(columnLine);
         }
-        horizontalLine = repeatCharacter(" ", maxCalorieSize) + horizontalLine + "--\n";
-        return horizontalLine;
+        return horizontalLine.append("--\n").toString();
     }
 
     /**
@@ -124,17 +125,15 @@ public class GraphDrawing {
      * @return width
      */
     public String addWidth(int number) {
-        String width = "";
+        int gapWidth = columnWidth - BAR_WIDTH.length();
         if (number == targetRow) {
-            width += TARGET_WIDTH;
-        } else {
-            width += BLANK_WIDTH;
+            return repeatCharacter(TARGET_WIDTH.substring(0, 1), gapWidth);
         }
-        return width;
+        return repeatCharacter(" ", gapWidth);
     }
 
     /**
-     * Draws the graph.
+     * Draws the graph into a single builder sized for the whole graph.
      */
     public String drawGraph() {
         int[][] table = graphProperty.table;
@@ -145,39 +144,41 @@ public class GraphDrawing {
         String space = repeatCharacter(" ", maxCalorieSize);
         int column = graphProperty.column;
         int row = GraphProperty.ROW;
-        String drawing = "";
+        int lineLength = maxCalorieSize + 2 + columnWidth * column;
+        StringBuilder drawing = new StringBuilder(lineLength * (row + 2));
 
         for (int i = row - 1; i >= 0; i--) {
-            drawing += generateVerticalAxis(space, i, row) + "|";
+            drawing.append(generateVerticalAxis(space, i, row)).append('|');
+            String width = addWidth(i);
             for (int j = 0; j < column; j++) {
                 switch (table[i][j]) {
                 case 0:
-                    drawing += BLANK_WIDTH;
+                    drawing.append(BLANK_WIDTH);
                     break;
                 case 1:
-                    drawing += BAR_WIDTH;
+                    drawing.append(BAR_WIDTH);
                     break;
                 case 2:
-                    drawing += TARGET_WIDTH;
+                    drawing.append(TARGET_WIDTH);
                     break;
                 case 3:
-                    drawing += targetBarWidth;
+                    drawing.append(targetBarWidth);
                     break;
                 case 4:
-                    drawing += TOP_BAR_WIDTH;
+                    drawing.append(TOP_BAR_WIDTH);
                     break;
                 default:
                     //does nothing
                     break;
                 }
-                drawing += addWidth(i);
+                drawing.append(width);
             }
-            drawing += "\n";
+            drawing.append('\n');
         }
 
-        drawing += generate_x_axis(maxCalorieSize, column);
-        drawing += generateDateLabels(maxCalorieSize, keys);
-        return drawing;
+        drawing.append(generate_x_axis(maxCalorieSize, column));
+        drawing.append(generateDateLabels(maxCalorieSize, keys));
+        return drawing.toString();
     }
 
 }
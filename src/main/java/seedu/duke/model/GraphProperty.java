@@ -3,14 +3,26 @@ package seedu.duke.model;
 import seedu.duke.command.GraphCommand;
 import seedu.duke.model.DayMap;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
+/**
+ * Properties of the graph of net calories, with one column per day, week or month.
+ * Days are grouped into weeks, or into groups of months, when there are too many to fit in the terminal,
+ * and each column then shows the average net calories per day with entries.
+ */
 public class GraphProperty {
     public static final int ROW = 11;
+    public static final int MAXIMUM_COLUMNS = 12;
     private static String DATE_FORMAT = "dd/MM";
+    private static String MONTH_FORMAT = "MMM yy";
     private static int TARGET_TYPE = 2;
     private static int LIMIT_TYPE = 4;
     private static int DIVISOR = 10;
@@ -19,6 +31,13 @@ public class GraphProperty {
     public int column;
     public final DayMap dayMap;
     ArrayList<LocalDate> keys;
+    ArrayList<LocalDate> bucketEnds;
+    private LocalDate firstShownDate;
+    private int numberOfDays = GraphCommand.MAXIMUM_DAYS;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String labelPattern = DATE_FORMAT;
+    private DateTimeFormatter labelFormat = DateTimeFormatter.ofPattern(DATE_FORMAT);
     public int targetCalories;
     public int maxCalories;
     public int minCalories;
@@ -38,60 +57,117 @@ public class GraphProperty {
     }
 
     /**
-     * Maximum days in graph is 7 or lower.
+     * Constructor for the graph of the latest days with entries.
      *
-     * @return number of days to be shown in graph
+     * @param dayMap hashmap containing dates
+     * @param targetCalories tagret calories from userprofile
+     * @param numberOfDays number of latest days with entries to show
      */
-    private int checkSize() {
-        int size = dayMap.getHashMap().size();
-        assert size != 0;
-        if (size < GraphCommand.MAXIMUM_DAYS) {
-            return size;
-        }
-        return GraphCommand.MAXIMUM_DAYS;
+    public GraphProperty(DayMap dayMap, int targetCalories, int numberOfDays) {
+        this(dayMap, targetCalories);
+        this.numberOfDays = numberOfDays;
+    }
+
+    /**
+     * Constructor for the graph of the days from startDate to endDate inclusive.
+     *
+     * @param dayMap hashmap containing dates
+     * @param targetCalories tagret calories from userprofile
+     * @param startDate first date to show
+     * @param endDate last date to show
+     */
+    public GraphProperty(DayMap dayMap, int targetCalories, LocalDate startDate, LocalDate endDate) {
+        this(dayMap, targetCalories);
+        this.startDate = startDate;
+        this.endDate = endDate;
     }
 
     /**
      * Set other properties by calculation.
      */
     public void setProperties() {
-        this.column = checkSize();
-        this.keys = sortKeys();
+        List<LocalDate> dates = getDates();
+        assert dates.size() != 0;
+        this.keys = groupIntoBuckets(dates);
+        this.column = keys.size();
         ArrayList<Integer> calories = getCalories();
         this.table = initiateTable(calories);
     }
 
     /**
-     * Initiates a 2 dimension table and fills the table with 0.
+     * Returns the days with entries to be shown, in date order.
+     *
+     * @return dates to be shown
      */
-    public int[][] setEmptyTable(int[][] table) {
-        for (int[] row : table) {
-            Arrays.fill(row, EMPTY);
+    private List<LocalDate> getDates() {
+        if (startDate == null) {
+            return dayMap.getLastDates(numberOfDays);
         }
-        return table;
+        return new ArrayList<>(dayMap.getDatesBetween(startDate, endDate));
     }
 
     /**
-     * Get and sort keys from hashmap.
+     * Groups the dates into as few columns as needed to fit MAXIMUM_COLUMNS, using days, weeks or months.
+     * The end of each column is kept in bucketEnds, limited to the shown dates like the first column.
      *
-     * @return sorted keys in arraylist
+     * @param dates dates to be shown, in date order
+     * @return first date of each column
      */
-    public ArrayList<LocalDate> sortKeys() {
-        ArrayList<LocalDate> keys = new ArrayList<>();
-        for (LocalDate key : dayMap.getHashMap().keySet()) {
-            keys.add(key);
+    public ArrayList<LocalDate> groupIntoBuckets(List<LocalDate> dates) {
+        LocalDate firstDate = dates.get(0);
+        firstShownDate = firstDate;
+        ArrayList<LocalDate> bucketStarts = new ArrayList<>();
+        bucketEnds = new ArrayList<>();
+        if (dates.size() <= MAXIMUM_COLUMNS) {
+            bucketStarts.addAll(dates);
+            bucketEnds.addAll(dates);
+            return bucketStarts;
+        }
+
+        LocalDate lastDate = dates.get(dates.size() - 1);
+        LocalDate firstMonday = firstDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long numberOfWeeks = ChronoUnit.WEEKS.between(firstMonday, lastDate) + 1;
+        long monthsPerBucket = 0;
+        if (numberOfWeeks > MAXIMUM_COLUMNS) {
+            long numberOfMonths = ChronoUnit.MONTHS.between(firstDate.withDayOfMonth(1), lastDate) + 1;
+            monthsPerBucket = (numberOfMonths + MAXIMUM_COLUMNS - 1) / MAXIMUM_COLUMNS;
+            labelPattern = MONTH_FORMAT;
+            labelFormat = DateTimeFormatter.ofPattern(MONTH_FORMAT, Locale.ENGLISH);
         }
-        //sort the keys by date
-        keys.sort(LocalDate::compareTo);
-        ArrayList<LocalDate> newKeys = new ArrayList<>();
-        for (int i = keys.size() - column; i < keys.size(); i++) {
-            newKeys.add(keys.get(i));
+        for (LocalDate date : dates) {
+            LocalDate bucketStart;
+            LocalDate nextBucketStart;
+            if (monthsPerBucket == 0) {
+                bucketStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                nextBucketStart = bucketStart.plusWeeks(1);
+            } else {
+                long monthIndex = ChronoUnit.MONTHS.between(firstDate.withDayOfMonth(1), date.withDayOfMonth(1));
+                bucketStart = firstDate.withDayOfMonth(1).plusMonths(monthIndex - monthIndex % monthsPerBucket);
+                nextBucketStart = bucketStart.plusMonths(monthsPerBucket);
+            }
+            if (bucketStarts.isEmpty() || !bucketStarts.get(bucketStarts.size() - 1).equals(bucketStart)) {
+                bucketStarts.add(bucketStart);
+                LocalDate bucketEnd = nextBucketStart.minusDays(1);
+                bucketEnds.add(bucketEnd.isAfter(lastDate) ? lastDate : bucketEnd);
+            }
+        }
+        return bucketStarts;
+    }
+
+    /**
+     * Initiates a 2 dimension table and fills the table with 0.
+     */
+    public int[][] setEmptyTable(int[][] table) {
+        for (int[] row : table) {
+            Arrays.fill(row, EMPTY);
         }
-        return newKeys;
+        return table;
     }
 
     /**
-     * Get calories from the dates.
+     * Get calories of each column from the running totals of the dayMap.
+     * A column of a single day shows its net calories, and a longer column shows the average
+     * net calories per day with entries.
      *
      * @return array of calories
      */
@@ -100,8 +176,14 @@ public class GraphProperty {
         int minCalories = targetCalories;
         int maxCalories = targetCalories;
         ArrayList<Integer> calories = new ArrayList<>();
-        for (LocalDate date : keys) {
-            currentCalories = dayMap.getNetCalorieOfDay(date);
+        for (int i = 0; i < keys.size(); i++) {
+            LocalDate bucketStart = keys.get(i);
+            if (bucketStart.isBefore(firstShownDate)) {
+                bucketStart = firstShownDate;
+            }
+            long netCalories = dayMap.getNetCaloriesBetween(bucketStart, bucketEnds.get(i));
+            int daysWithEntries = dayMap.getNumberOfDaysBetween(bucketStart, bucketEnds.get(i));
+            currentCalories = (int) Math.round((double) netCalories / Math.max(1, daysWithEntries));
             calories.add(currentCalories);
             maxCalories = findMaximum(maxCalories, currentCalories);
             minCalories = findMinimum(minCalories, currentCalories);
@@ -195,16 +277,24 @@ public class GraphProperty {
     /**
      * Parses the date into string.
      *
-     * @return date in dd/MM format
+     * @return date in dd/MM format, or MMM yy format for columns of months
      */
     public String parseDate(ArrayList<LocalDate> keys) {
         assert keys != null;
-        String formattedDate = "";
+        StringBuilder formattedDate = new StringBuilder(keys.size() * (labelPattern.length() + 1));
         for (LocalDate key : keys) {
-            formattedDate += key.format(DateTimeFormatter.ofPattern(DATE_FORMAT));
-            formattedDate += " ";
+            formattedDate.append(key.format(labelFormat)).append(' ');
         }
-        return formattedDate;
+        return formattedDate.toString();
+    }
+
+    /**
+     * Returns the length of each date label, which is longer for columns of months.
+     *
+     * @return number of characters in a label
+     */
+    public int getLabelLength() {
+        return labelPattern.length();
     }
 
     /**
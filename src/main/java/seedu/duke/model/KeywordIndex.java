@@ -0,0 +1,216 @@
+package seedu.duke.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inverted index from the words of an activity description to the dates having activities with that word.
+ * The words of a description are its space separated parts. A keyword without spaces can only be contained in the
+ * string of an activity, e.g. "[F] | apple pie | 50", if it is contained in one of these words or in the type,
+ * separators or calories around them, which are not indexed. Keywords that can be contained in the latter match
+ * every date, so the dates found through the index are exactly the dates that can have a match.
+ * The words containing a keyword are found by looking up the keyword in the postings, and the other words that
+ * contain it through the words having each of its GRAM_LENGTH character parts, so only keywords shorter than
+ * GRAM_LENGTH are checked against every word.
+ */
+public class KeywordIndex {
+    private static final String WORD_SEPARATOR = " ";
+    private static final int GRAM_LENGTH = 3;
+    private static final String FOOD_TYPE = "[F]";
+    private static final String EXERCISE_TYPE = "[E]";
+    private static final String FIELD_SEPARATOR = "|";
+
+    /** Number of activities containing a word, for each date having such activities. */
+    private final HashMap<String, HashMap<LocalDate, Integer>> postings = new HashMap<>();
+    /** Words of the postings containing each string of GRAM_LENGTH characters. */
+    private final HashMap<String, HashSet<String>> wordsByGram = new HashMap<>();
+
+    /**
+     * Adds the words of an activity under its date.
+     *
+     * @param date date of the activity
+     * @param activity activity to add
+     */
+    public void addActivity(LocalDate date, Activity activity) {
+        for (String word : getWords(activity)) {
+            HashMap<LocalDate, Integer> dates = postings.get(word);
+            if (dates == null) {
+                dates = new HashMap<>();
+                postings.put(word, dates);
+                addGrams(word);
+            }
+            dates.merge(date, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes the words of an activity from its date.
+     *
+     * @param date date of the activity
+     * @param activity activity to remove
+     */
+    public void removeActivity(LocalDate date, Activity activity) {
+        for (String word : getWords(activity)) {
+            HashMap<LocalDate, Integer> dates = postings.get(word);
+            if (dates == null) {
+                continue;
+            }
+            dates.computeIfPresent(date, (key, count) -> count == 1 ? null : count - 1);
+            if (dates.isEmpty()) {
+                postings.remove(word);
+                removeGrams(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the dates that may have an activity containing the keyword.
+     * A keyword with spaces needs every space separated part to be contained in a word of the same date.
+     *
+     * @param keyword keyword to look up
+     * @param allDates every date, returned when the keyword is blank as it is contained in every activity
+     * @return dates that may have an activity containing the keyword
+     */
+    public Set<LocalDate> getDatesContaining(String keyword, Set<LocalDate> allDates) {
+        Set<LocalDate> dates = null;
+        for (String part : keyword.split(WORD_SEPARATOR)) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            Set<LocalDate> partDates = canMatchOutsideDescription(part)
+                    ? new HashSet<>(allDates) : getDatesWithWordContaining(part);
+            if (dates == null) {
+                dates = partDates;
+            } else {
+                dates.retainAll(partDates);
+            }
+        }
+        return dates == null ? new HashSet<>(allDates) : dates;
+    }
+
+    /**
+     * Returns the dates that may have an activity containing every keyword.
+     *
+     * @param keywords keywords to look up
+     * @param allDates every date
+     * @return dates that may have an activity containing every keyword
+     */
+    public Set<LocalDate> getDatesContainingAll(List<String> keywords, Set<LocalDate> allDates) {
+        Set<LocalDate> dates = new HashSet<>(allDates);
+        for (String keyword : keywords) {
+            dates.retainAll(getDatesContaining(keyword, allDates));
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the dates that may have an activity containing at least one of the keywords.
+     *
+     * @param keywords keywords to look up
+     * @param allDates every date
+     * @return dates that may have an activity containing one of the keywords
+     */
+    public Set<LocalDate> getDatesContainingEither(List<String> keywords, Set<LocalDate> allDates) {
+        Set<LocalDate> dates = new HashSet<>();
+        for (String keyword : keywords) {
+            dates.addAll(getDatesContaining(keyword, allDates));
+        }
+        return dates;
+    }
+
+    /**
+     * Checks if the part can be contained in the type, separators or calories of the string of an activity.
+     */
+    private static boolean canMatchOutsideDescription(String part) {
+        if (FOOD_TYPE.contains(part) || EXERCISE_TYPE.contains(part) || FIELD_SEPARATOR.contains(part)) {
+            return true;
+        }
+        for (int i = 0; i < part.length(); i++) {
+            if (!Character.isDigit(part.charAt(i)) && part.charAt(i) != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the dates having a word that contains the part.
+     */
+    private Set<LocalDate> getDatesWithWordContaining(String part) {
+        Set<LocalDate> dates = new HashSet<>();
+        for (String word : getWordsContaining(part)) {
+            dates.addAll(postings.get(word).keySet());
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the words of the postings that contain the part.
+     * The part itself is looked up directly, and longer words containing it are only looked for among the words
+     * having its rarest string of GRAM_LENGTH characters.
+     */
+    private List<String> getWordsContaining(String part) {
+        List<String> words = new ArrayList<>();
+        if (part.length() < GRAM_LENGTH) {
+            for (String word : postings.keySet()) {
+                if (word.contains(part)) {
+                    words.add(word);
+                }
+            }
+            return words;
+        }
+        if (postings.containsKey(part)) {
+            words.add(part);
+        }
+        Set<String> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= part.length(); i++) {
+            HashSet<String> gramWords = wordsByGram.get(part.substring(i, i + GRAM_LENGTH));
+            if (gramWords == null) {
+                return words;
+            }
+            if (candidates == null || gramWords.size() < candidates.size()) {
+                candidates = gramWords;
+            }
+        }
+        for (String word : candidates) {
+            if (word.length() > part.length() && word.contains(part)) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private void addGrams(String word) {
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            wordsByGram.computeIfAbsent(word.substring(i, i + GRAM_LENGTH), key -> new HashSet<>()).add(word);
+        }
+    }
+
+    private void removeGrams(String word) {
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            String gram = word.substring(i, i + GRAM_LENGTH);
+            HashSet<String> gramWords = wordsByGram.get(gram);
+            if (gramWords != null) {
+                gramWords.remove(word);
+                if (gramWords.isEmpty()) {
+                    wordsByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct words of the description of an activity.
+     */
+    private Set<String> getWords(Activity activity) {
+        Set<String> words = new HashSet<>();
+        Collections.addAll(words, activity.getActivityDescription().split(WORD_SEPARATOR));
+        words.remove("");
+        return words;
+    }
+}
@@ -1,14 +1,19 @@
 package seedu.duke.model;
 
+import seedu.duke.logic.LatencyStats;
 import seedu.duke.model.ActivityList;
 import seedu.duke.model.Food;
 
+import seedu.duke.ui.Ui;
+
+import java.io.PrintStream;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Collections;
 
 /**
  * This class is used to create a responsive interface for the listing feature after a list command.
+ * Each row is appended into a reused StringBuilder with padding taken from cached strings and written into
+ * the output sink of Ui as soon as it is drawn, so drawing a list takes time linear in the size of the output
+ * and memory bounded by the size of a row.
  */
 
 public class ListDrawer {
@@ -30,6 +35,11 @@ public class ListDrawer {
     protected static final int MAX_STRING_FOR_DESCRIPTION = 36 + DESCRIPTION.length();
     protected static final int START_INDEX_FOR_EXERCISE_TYPE = 9;
     protected static final int START_INDEX_FOR_FOOD_TYPE = 11;
+    protected static final int PADDING_LENGTH = 128;
+    protected static final String SPACES = " ".repeat(PADDING_LENGTH);
+    protected static final String UNDERSCORES = "_".repeat(PADDING_LENGTH);
+    protected static final int ESTIMATED_ROW_LENGTH = 128;
+    protected static final int PAGE_SIZE = 20;
 
 
     /**
@@ -55,14 +65,34 @@ public class ListDrawer {
      * Prints the list of activities.
      */
     public void printList() {
-        System.out.print(headerBox()
-                + listHeaderString()
-                + NEWLINE
-                + increaseStringLength(DIVIDER, listHeaderString().length())
-                + NEWLINE
-                + allActivityString());
+        PrintStream output = Ui.getOutput();
+        output.print(headerBox());
+        printTable(output, 0, activityList.getNumberOfActivities());
     }
 
+    /**
+     * Prints the table header and the rows of the activities from start to end, timed as the render phase of the
+     * command.
+     * @param output sink to draw into
+     * @param start index of the first activity to draw
+     * @param end index after the last activity to draw
+     */
+    protected void printTable(PrintStream output, int start, int end) {
+        LatencyStats.startPhase(LatencyStats.RENDER);
+        String listHeader = listHeaderString();
+        StringBuilder row = new StringBuilder(ESTIMATED_ROW_LENGTH);
+        row.append(listHeader).append(NEWLINE);
+        appendRepeated(row, DIVIDER, listHeader.length());
+        row.append(NEWLINE);
+        output.append(row);
+        for (int i = start; i < end; i++) {
+            row.setLength(0);
+            appendSingleActivity(row, i);
+            row.append(NEWLINE);
+            output.append(row);
+        }
+        LatencyStats.endPhase();
+    }
 
     /**
      * Multiplies the length of a string by a given length.
@@ -71,8 +101,33 @@ public class ListDrawer {
      * @return a string of the increased length
      */
     protected String increaseStringLength(String stringToIncrease, int length) {
+        return stringToIncrease.repeat(length);
+    }
 
-        return String.join("", Collections.nCopies(length, stringToIncrease));
+    /**
+     * Appends a string a given number of times, using the cached padding for spaces and underscores.
+     * @param output builder to append to
+     * @param stringToRepeat string to repeat
+     * @param length number of times to repeat the string, where a negative number appends nothing
+     */
+    protected static void appendRepeated(StringBuilder output, String stringToRepeat, int length) {
+        String padding = null;
+        if (stringToRepeat.equals(" ")) {
+            padding = SPACES;
+        } else if (stringToRepeat.equals("_")) {
+            padding = UNDERSCORES;
+        }
+        if (padding == null) {
+            for (int i = 0; i < length; i++) {
+                output.append(stringToRepeat);
+            }
+            return;
+        }
+        while (length > 0) {
+            int lengthToAppend = Math.min(length, PADDING_LENGTH);
+            output.append(padding, 0, lengthToAppend);
+            length -= lengthToAppend;
+        }
     }
 
     /**
@@ -103,95 +158,57 @@ public class ListDrawer {
 
 
     /**
-     * Generates the string for a single activity.
+     * Appends the row of a single activity.
+     * Descriptions longer than the maximum length are wrapped onto the following lines.
+     * @param output builder to append to
      * @param index index of the activity
-     * @return string of single activity
      */
-    protected String singleActivityString(int index) {
-        ArrayList<String> descriptions = new ArrayList<>();
-        String restOfDescription = "";
-
+    protected void appendSingleActivity(StringBuilder output, int index) {
+        Activity activity = activityList.getActivity(index);
         String indexString = Integer.toString(index + 1);
+        output.append(indexString);
         int lengthOfIndex = indexString.length();
 
-        String descriptionString = activityList.getActivity(index).getActivityDescription();
-        int lengthOfDescription = descriptionString.length();
-
         String typeString;
-        int lengthOfType;
-
         int lengthLeftForWhiteSpaceType;
-        int lengthLeftForWhiteSpaceDescription;
-        int lengthLeftForWhiteSpace;
-
-
-
-        if (activityList.getActivity(index) instanceof Food) {
+        if (activity instanceof Food) {
             typeString = FOOD_TYPE;
-            lengthOfType = FOOD_TYPE.length();
             lengthLeftForWhiteSpaceType = START_INDEX_FOR_FOOD_TYPE - lengthOfIndex;
-
         } else {
             typeString = EXERCISE_TYPE;
-            lengthOfType = EXERCISE_TYPE.length();
             lengthLeftForWhiteSpaceType = START_INDEX_FOR_EXERCISE_TYPE - lengthOfIndex;
         }
+        appendRepeated(output, " ", lengthLeftForWhiteSpaceType);
+        output.append(typeString);
+        int lengthOfType = typeString.length();
 
-        lengthLeftForWhiteSpaceDescription = START_INDEX_FOR_DESCRIPTION
+        int lengthLeftForWhiteSpaceDescription = START_INDEX_FOR_DESCRIPTION
                 - lengthOfIndex - lengthLeftForWhiteSpaceType - lengthOfType;
-
-
-
-        if (lengthOfDescription > MAX_STRING_FOR_DESCRIPTION) {
-            lengthLeftForWhiteSpace = START_INDEX_FOR_CALORIES - lengthOfIndex - lengthOfType
-                    - lengthLeftForWhiteSpaceType - lengthLeftForWhiteSpaceDescription - MAX_STRING_FOR_DESCRIPTION;
-        } else {
-            lengthLeftForWhiteSpace = START_INDEX_FOR_CALORIES - lengthOfIndex - lengthOfType
-                    - lengthLeftForWhiteSpaceType  - lengthLeftForWhiteSpaceDescription - lengthOfDescription;
-        }
-
-
-        //if the length of the description exceeds the maximum length, extract the rest of the description
-        while (lengthOfDescription > MAX_STRING_FOR_DESCRIPTION) {
-            String description = descriptionString.substring(0, MAX_STRING_FOR_DESCRIPTION);
-            descriptions.add(description);
-            descriptionString = descriptionString.substring(MAX_STRING_FOR_DESCRIPTION);
-            lengthOfDescription = descriptionString.length();
-
-        }
-        descriptions.add(descriptionString);
-
-        if (descriptions.size() > 1) {
-            for (int i = 1; i < descriptions.size(); i++) {
-                restOfDescription = restOfDescription
-                        + increaseStringLength(" ", START_INDEX_FOR_DESCRIPTION)
-                        + descriptions.get(i)
-                        + NEWLINE;
-            }
-
-
-        }
-        //    ----------------------------------------
-        String calorieString = Integer.toString(activityList.getActivity(index).getActivityCalories());
-
-        return indexString
-                + increaseStringLength(" ", lengthLeftForWhiteSpaceType) + typeString
-                + increaseStringLength(" ", lengthLeftForWhiteSpaceDescription) + descriptions.get(0)
-                + increaseStringLength("_", lengthLeftForWhiteSpace) + calorieString
-                + NEWLINE
-                + restOfDescription;
-
+        appendRepeated(output, " ", lengthLeftForWhiteSpaceDescription);
+        String descriptionString = activity.getActivityDescription();
+        int lengthOfFirstLine = Math.min(descriptionString.length(), MAX_STRING_FOR_DESCRIPTION);
+        output.append(descriptionString, 0, lengthOfFirstLine);
+
+        int lengthLeftForWhiteSpace = START_INDEX_FOR_CALORIES - lengthOfIndex - lengthOfType
+                - lengthLeftForWhiteSpaceType - lengthLeftForWhiteSpaceDescription - lengthOfFirstLine;
+        appendRepeated(output, "_", lengthLeftForWhiteSpace);
+        output.append(activity.getActivityCalories()).append(NEWLINE);
+        appendRestOfDescription(output, descriptionString, MAX_STRING_FOR_DESCRIPTION, START_INDEX_FOR_DESCRIPTION);
     }
 
     /**
-     * Generates the content for the list.
-     * @return string of the content
+     * Appends the lines of a long description after its first line, each indented to the description column.
+     * The last line holds the remaining characters, which may be as long as the maximum length.
+     * @param output builder to append to
+     * @param description description of the activity
+     * @param maxLength maximum length of each line
+     * @param indent indentation of the description column
      */
-    protected String allActivityString() {
-        String allActivityString = "";
-        for (int i = 0; i < activityList.getNumberOfActivities(); i++) {
-            allActivityString = allActivityString + singleActivityString(i) + NEWLINE;
+    protected static void appendRestOfDescription(StringBuilder output, String description, int maxLength,
+            int indent) {
+        for (int start = maxLength; start < description.length(); start += maxLength) {
+            appendRepeated(output, " ", indent);
+            output.append(description, start, Math.min(start + maxLength, description.length())).append(NEWLINE);
         }
-        return allActivityString;
     }
 }
@@ -0,0 +1,94 @@
+package seedu.duke.storage;
+
+import seedu.duke.model.Activity;
+import seedu.duke.model.ActivityList;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.Exercise;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Writes activities to a CSV or TSV file in the format read by the ActivityImporter.
+ * The fields of each activity are written straight into a buffered writer as the dates are walked in order,
+ * so no line is built as a string first.
+ */
+public class ActivityExporter {
+    private static final String HEADER = "date%ctype%cdescription%ccalories";
+    private static final String FOOD_TYPE = "food";
+    private static final String EXERCISE_TYPE = "exercise";
+    private static final char QUOTE = '"';
+
+    private final Path file;
+    private final char separator;
+
+    /**
+     * Constructor for the exporter.
+     * @param file file to export to, which is written as TSV if it ends with .tsv and as CSV otherwise
+     */
+    public ActivityExporter(Path file) {
+        this.file = file;
+        this.separator = ActivityImporter.getSeparator(file);
+    }
+
+    /**
+     * Writes the activities from startDate to endDate inclusive, replacing the file if it exists.
+     * @param dayMap activities to export
+     * @param startDate first date to export
+     * @param endDate last date to export
+     * @return number of activities written
+     * @throws IOException if the file cannot be written
+     */
+    public int write(DayMap dayMap, LocalDate startDate, LocalDate endDate) throws IOException {
+        int numberOfActivities = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(String.format(HEADER, separator, separator, separator));
+            writer.write('\n');
+            for (LocalDate date : dayMap.getDatesBetween(startDate, endDate)) {
+                ActivityList activityList = dayMap.getActivityList(date.atStartOfDay());
+                for (int i = 0; i < activityList.getNumberOfActivities(); i++) {
+                    writeActivity(writer, date, activityList.getActivity(i));
+                    numberOfActivities++;
+                }
+            }
+        }
+        return numberOfActivities;
+    }
+
+    private void writeActivity(Writer writer, LocalDate date, Activity activity) throws IOException {
+        writer.write(date.toString());
+        writer.write(separator);
+        writer.write(activity instanceof Exercise ? EXERCISE_TYPE : FOOD_TYPE);
+        writer.write(separator);
+        writeField(writer, activity.getActivityDescription());
+        writer.write(separator);
+        writer.write(Integer.toString(activity.getActivityCalories()));
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a field, in quotes if it contains the separator, a quote or a line break.
+     */
+    private void writeField(Writer writer, String field) throws IOException {
+        boolean isQuoted = field.indexOf(separator) >= 0 || field.indexOf(QUOTE) >= 0
+                || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        if (!isQuoted) {
+            writer.write(field);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.duke.storage;
+
+import seedu.duke.exception.CalorieCountException;
+import seedu.duke.exception.EmptyDescriptionException;
+import seedu.duke.logic.Parser;
+import seedu.duke.model.Activity;
+import seedu.duke.model.Exercise;
+import seedu.duke.model.Food;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Reads activities from a CSV or TSV file, one activity per line in the format of date, type, description and
+ * calories. For e.g, 2020-10-11,food,apple,50.
+ * The lines are parsed in parallel chunks on the common ForkJoinPool and checked with the same rules as the
+ * add command. A description may be quoted, and a first line that is a header is skipped.
+ */
+public class ActivityImporter {
+    public static final String TSV_EXTENSION = ".tsv";
+    public static final String HEADER_DATE = "date";
+    private static final int CHUNK_SIZE = 2048;
+    private static final int NUMBER_OF_FIELDS = 4;
+    private static final char QUOTE = '"';
+    private static final String RESERVED_CHARACTERS = ",|";
+
+    private final Path file;
+    private final char separator;
+    private List<Activity> activities = new ArrayList<>();
+    private List<Integer> invalidLineNumbers = new ArrayList<>();
+
+    /**
+     * Constructor for the importer.
+     * @param file file to import, which is read as TSV if it ends with .tsv and as CSV otherwise
+     */
+    public ActivityImporter(Path file) {
+        this.file = file;
+        this.separator = getSeparator(file);
+    }
+
+    /**
+     * Returns the character separating the fields of each line of the file.
+     * @param file file to check
+     * @return tab for a .tsv file, comma otherwise
+     */
+    public static char getSeparator(Path file) {
+        return file.toString().toLowerCase().endsWith(TSV_EXTENSION) ? '\t' : ',';
+    }
+
+    /**
+     * Reads and parses every line of the file.
+     * @throws IOException if the file cannot be read
+     */
+    public void read() throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        ParsedLines parsedLines = ForkJoinPool.commonPool().invoke(new ParseTask(lines, 0, lines.size()));
+        activities = parsedLines.activities;
+        invalidLineNumbers = parsedLines.invalidLineNumbers;
+    }
+
+    /**
+     * Returns the activities read, in the order of the file.
+     * @return activities read
+     */
+    public List<Activity> getActivities() {
+        return activities;
+    }
+
+    /**
+     * Returns the line numbers, starting from 1, of the lines that could not be imported.
+     * @return line numbers of the invalid lines
+     */
+    public List<Integer> getInvalidLineNumbers() {
+        return invalidLineNumbers;
+    }
+
+    /**
+     * Activities parsed from a chunk of lines, together with the lines of the chunk that could not be parsed.
+     */
+    private static class ParsedLines {
+        private final ArrayList<Activity> activities = new ArrayList<>();
+        private final ArrayList<Integer> invalidLineNumbers = new ArrayList<>();
+
+        private ParsedLines append(ParsedLines other) {
+            activities.addAll(other.activities);
+            invalidLineNumbers.addAll(other.invalidLineNumbers);
+            return this;
+        }
+    }
+
+    /**
+     * Parses the lines from start to end, splitting the lines in half until they are at most a chunk long.
+     */
+    private class ParseTask extends RecursiveTask<ParsedLines> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> lines;
+        private final int start;
+        private final int end;
+
+        private ParseTask(List<String> lines, int start, int end) {
+            this.lines = lines;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected ParsedLines compute() {
+            if (end - start <= CHUNK_SIZE) {
+                return parseLines(lines, start, end);
+            }
+            int middle = (start + end) >>> 1;
+            ParseTask firstHalf = new ParseTask(lines, start, middle);
+            firstHalf.fork();
+            ParsedLines secondHalf = new ParseTask(lines, middle, end).compute();
+            return firstHalf.join().append(secondHalf);
+        }
+    }
+
+    private ParsedLines parseLines(List<String> lines, int start, int end) {
+        ParsedLines parsedLines = new ParsedLines();
+        for (int i = start; i < end; i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = splitFields(line);
+            if (i == 0 && fields.length > 0 && fields[0].trim().equalsIgnoreCase(HEADER_DATE)) {
+                continue;
+            }
+            Activity activity = parseActivity(fields);
+            if (activity == null) {
+                parsedLines.invalidLineNumbers.add(i + 1);
+            } else {
+                parsedLines.activities.add(activity);
+            }
+        }
+        return parsedLines;
+    }
+
+    /**
+     * Parses the fields of a line into an activity.
+     * @param fields date, type, description and calories
+     * @return the activity, or null if the fields are not a valid activity
+     */
+    private Activity parseActivity(String[] fields) {
+        if (fields.length != NUMBER_OF_FIELDS) {
+            return null;
+        }
+        try {
+            String dateField = fields[0].trim();
+            LocalDate date = dateField.length() == CsvDecoder.DATE_LENGTH ? CsvDecoder.decodeDate(dateField) : null;
+            if (date == null) {
+                return null;
+            }
+            String description = fields[2].trim();
+            Parser.checkDescription(description);
+            if (containsReservedCharacter(description)) {
+                return null;
+            }
+            int calories = Integer.parseInt(fields[3].trim());
+            Parser.checkCalories(calories);
+            switch (fields[1].trim().toLowerCase()) {
+            case "f":
+            case "food":
+                return new Food(description, calories, date);
+            case "e":
+            case "exercise":
+                return new Exercise(description, calories, date);
+            default:
+                return null;
+            }
+        } catch (NumberFormatException | CalorieCountException | EmptyDescriptionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks for the characters that separate activities and their fields in the data file.
+     */
+    private static boolean containsReservedCharacter(String description) {
+        for (int i = 0; i < description.length(); i++) {
+            if (RESERVED_CHARACTERS.indexOf(description.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits a line into its fields in a single pass. A field in quotes may contain the separator,
+     * and a quote inside it is written as two quotes.
+     * @param line line to split
+     * @return fields of the line
+     */
+    private String[] splitFields(String line) {
+        ArrayList<String> fields = new ArrayList<>(NUMBER_OF_FIELDS);
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    isQuoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+}
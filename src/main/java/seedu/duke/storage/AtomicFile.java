@@ -0,0 +1,67 @@
+package seedu.duke.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replaces whole files so that readers, and the file left behind by a crash, only ever see the old or the new
+ * contents. The new contents are written to a temporary file in the same folder, forced to the disk, and then
+ * renamed over the old file in a single step.
+ */
+public class AtomicFile {
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    /**
+     * Writes the contents of a file into a stream.
+     */
+    public interface Contents {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Replaces the file with the given contents.
+     *
+     * @param file file to replace, which need not exist yet
+     * @param contents contents to write
+     * @throws IOException if the file cannot be written, in which case the old file is left as it was
+     */
+    public static void write(File file, Contents contents) throws IOException {
+        File temporaryFile = new File(file.getPath() + TEMPORARY_EXTENSION);
+        try (FileOutputStream fileOut = new FileOutputStream(temporaryFile)) {
+            OutputStream out = new BufferedOutputStream(fileOut);
+            contents.writeTo(out);
+            out.flush();
+            fileOut.getChannel().force(true);
+        } catch (IOException e) {
+            temporaryFile.delete();
+            throw e;
+        }
+        try {
+            Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceFolder(file.getAbsoluteFile().getParentFile().toPath());
+    }
+
+    /**
+     * Forces the rename to the disk where the platform allows a folder to be opened, which Windows does not.
+     */
+    private static void forceFolder(Path folder) {
+        try (FileChannel channel = FileChannel.open(folder, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The rename is still atomic, it is only not forced to the disk yet.
+        }
+    }
+}
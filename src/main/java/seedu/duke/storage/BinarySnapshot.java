@@ -0,0 +1,233 @@
+package seedu.duke.storage;
+
+import seedu.duke.model.Activity;
+import seedu.duke.model.ActivityList;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.DaySource;
+import seedu.duke.model.Exercise;
+import seedu.duke.model.Food;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static seedu.duke.ui.ExceptionMessages.displayMissingDescriptionMessage;
+
+/**
+ * Compact binary snapshot of a DayMap that is memory-mapped when loaded.
+ * Only the day directory is read when loading; the activities of a date are decoded when it is first needed.
+ *
+ * <p>Layout, with every number stored as a big-endian int unless stated otherwise:
+ * a header of magic, version, description count, day count and activity count,
+ * the description table with each description stored as its UTF-8 length followed by its bytes,
+ * the day directory with each day stored as its epoch day, first activity and activity count, in date order,
+ * and the activities with each activity stored as a type byte, a description id and its calories.
+ */
+public class BinarySnapshot implements DaySource {
+    private static final int MAGIC = 0x54524B43;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+    private static final int DAY_ENTRY_SIZE = 3 * Integer.BYTES;
+    private static final int ACTIVITY_SIZE = 1 + 2 * Integer.BYTES;
+    private static final byte FOOD_TYPE = 'F';
+    private static final byte EXERCISE_TYPE = 'E';
+    private static final String CORRUPTED_MESSAGE = "Corrupted snapshot file";
+
+    private final MappedByteBuffer buffer;
+    private final int[] descriptionOffsets;
+    private final String[] descriptions;
+    private final int[] epochDays;
+    private final int dayDirectoryOffset;
+    private final int activitiesOffset;
+
+    /**
+     * Reads the header, the description offsets and the day directory, checking every count and offset against
+     * the size of the file so that a truncated or corrupt snapshot is rejected rather than read out of bounds.
+     *
+     * @throws IOException if the buffer is not a complete snapshot
+     */
+    private BinarySnapshot(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        long capacity = buffer.capacity();
+        if (capacity < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a snapshot file");
+        }
+        int descriptionCount = buffer.getInt(8);
+        int dayCount = buffer.getInt(12);
+        int activityCount = buffer.getInt(16);
+        if (descriptionCount < 0 || dayCount < 0 || activityCount < 0
+                || HEADER_SIZE + (long) descriptionCount * Integer.BYTES > capacity) {
+            throw new IOException(CORRUPTED_MESSAGE);
+        }
+        descriptionOffsets = new int[descriptionCount];
+        descriptions = new String[descriptionCount];
+        long offset = HEADER_SIZE;
+        for (int i = 0; i < descriptionCount; i++) {
+            if (offset + Integer.BYTES > capacity) {
+                throw new IOException(CORRUPTED_MESSAGE);
+            }
+            int length = buffer.getInt((int) offset);
+            if (length < 0 || offset + Integer.BYTES + length > capacity) {
+                throw new IOException(CORRUPTED_MESSAGE);
+            }
+            descriptionOffsets[i] = (int) offset;
+            offset += Integer.BYTES + length;
+        }
+        long activitiesStart = offset + (long) dayCount * DAY_ENTRY_SIZE;
+        if (activitiesStart + (long) activityCount * ACTIVITY_SIZE > capacity) {
+            throw new IOException(CORRUPTED_MESSAGE);
+        }
+        dayDirectoryOffset = (int) offset;
+        activitiesOffset = (int) activitiesStart;
+        epochDays = new int[dayCount];
+        for (int i = 0; i < dayCount; i++) {
+            int entryOffset = dayDirectoryOffset + i * DAY_ENTRY_SIZE;
+            epochDays[i] = buffer.getInt(entryOffset);
+            long firstActivity = buffer.getInt(entryOffset + Integer.BYTES);
+            long dayActivityCount = buffer.getInt(entryOffset + 2 * Integer.BYTES);
+            if ((i > 0 && epochDays[i] <= epochDays[i - 1]) || firstActivity < 0 || dayActivityCount < 0
+                    || firstActivity + dayActivityCount > activityCount) {
+                throw new IOException(CORRUPTED_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * Maps the snapshot file and adds its dates to calList without decoding their activities.
+     *
+     * @param file snapshot file
+     * @param calList used to store the current activities
+     * @throws IOException if the file cannot be read or is not a snapshot file
+     */
+    public static void load(File file, DayMap calList) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        BinarySnapshot snapshot = new BinarySnapshot(buffer);
+        calList.setDaySource(snapshot);
+        for (int epochDay : snapshot.epochDays) {
+            calList.addUnloadedDay(LocalDate.ofEpochDay(epochDay));
+        }
+    }
+
+    /**
+     * Decodes the activities of the given date from the mapped file.
+     *
+     * @param date date to load the activities of
+     * @return list of activities of the date
+     */
+    @Override
+    public ActivityList loadDay(LocalDate date) {
+        ActivityList activityList = new ActivityList();
+        int dayIndex = Arrays.binarySearch(epochDays, (int) date.toEpochDay());
+        if (dayIndex < 0) {
+            return activityList;
+        }
+        int entryOffset = dayDirectoryOffset + dayIndex * DAY_ENTRY_SIZE;
+        int firstActivity = buffer.getInt(entryOffset + Integer.BYTES);
+        int activityCount = buffer.getInt(entryOffset + 2 * Integer.BYTES);
+        for (int i = 0; i < activityCount; i++) {
+            int offset = activitiesOffset + (firstActivity + i) * ACTIVITY_SIZE;
+            int descriptionId = buffer.getInt(offset + 1);
+            if (descriptionId < 0 || descriptionId >= descriptions.length) {
+                displayMissingDescriptionMessage();
+                continue;
+            }
+            String description = getDescription(descriptionId);
+            int calories = buffer.getInt(offset + 1 + Integer.BYTES);
+            if (buffer.get(offset) == FOOD_TYPE) {
+                activityList.addActivity(new Food(description, calories, date));
+            } else {
+                activityList.addActivity(new Exercise(description, calories, date));
+            }
+        }
+        return activityList;
+    }
+
+    /**
+     * Returns the description with the given id, decoding it the first time it is needed.
+     *
+     * @param id id of the description
+     * @return the description
+     */
+    private String getDescription(int id) {
+        if (descriptions[id] == null) {
+            int offset = descriptionOffsets[id];
+            byte[] bytes = new byte[buffer.getInt(offset)];
+            ByteBuffer view = buffer.duplicate();
+            view.position(offset + Integer.BYTES);
+            view.get(bytes);
+            descriptions[id] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return descriptions[id];
+    }
+
+    /**
+     * Writes the dates of calList into a snapshot file.
+     * The snapshot is replaced through an AtomicFile, so a mapped snapshot is never truncated underneath its
+     * reader and a crash leaves either the old or the new snapshot.
+     *
+     * @param file snapshot file
+     * @param calList activities to write, with every date loaded
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(File file, DayMap calList) throws IOException {
+        ArrayList<LocalDate> dates = new ArrayList<>(calList.getHashMap().keySet());
+        HashMap<String, Integer> descriptionIds = new HashMap<>();
+        ArrayList<byte[]> descriptions = new ArrayList<>();
+        int activityCount = 0;
+        for (LocalDate date : dates) {
+            ActivityList activityList = calList.getActivityList(date.atStartOfDay());
+            for (int i = 0; i < activityList.getNumberOfActivities(); i++) {
+                String description = activityList.getActivity(i).getActivityDescription();
+                if (!descriptionIds.containsKey(description)) {
+                    descriptionIds.put(description, descriptions.size());
+                    descriptions.add(description.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            activityCount += activityList.getNumberOfActivities();
+        }
+
+        final int totalActivities = activityCount;
+        AtomicFile.write(file, fileOut -> {
+            DataOutputStream out = new DataOutputStream(fileOut);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(descriptions.size());
+            out.writeInt(dates.size());
+            out.writeInt(totalActivities);
+            for (byte[] description : descriptions) {
+                out.writeInt(description.length);
+                out.write(description);
+            }
+            int firstActivity = 0;
+            for (LocalDate date : dates) {
+                int count = calList.getActivityList(date.atStartOfDay()).getNumberOfActivities();
+                out.writeInt((int) date.toEpochDay());
+                out.writeInt(firstActivity);
+                out.writeInt(count);
+                firstActivity += count;
+            }
+            for (LocalDate date : dates) {
+                ActivityList activityList = calList.getActivityList(date.atStartOfDay());
+                for (int i = 0; i < activityList.getNumberOfActivities(); i++) {
+                    Activity activity = activityList.getActivity(i);
+                    out.writeByte(activity instanceof Food ? FOOD_TYPE : EXERCISE_TYPE);
+                    out.writeInt(descriptionIds.get(activity.getActivityDescription()));
+                    out.writeInt(activity.getActivityCalories());
+                }
+            }
+            out.flush();
+        });
+    }
+}
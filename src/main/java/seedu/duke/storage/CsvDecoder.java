@@ -0,0 +1,230 @@
+package seedu.duke.storage;
+
+import seedu.duke.model.ActivityList;
+import seedu.duke.model.Exercise;
+import seedu.duke.model.Food;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Decodes lines of CSV data in a single pass.
+ * Each line is read into a reused buffer and walked with a cursor, so the only objects created per activity
+ * are its description and the activity itself.
+ * For e.g, 2020-10-11, [F] | apple | 50, [E] | jogging | 60.
+ */
+public class CsvDecoder implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    public static final int DATE_LENGTH = 10;
+    private static final char ACTIVITY_SEPARATOR = ',';
+    private static final char FIELD_SEPARATOR = '|';
+    private static final char FOOD_TYPE = 'F';
+    private static final char EXERCISE_TYPE = 'E';
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+
+    /**
+     * Constructor for the decoder.
+     * @param reader reader of the CSV data, which is closed together with the decoder
+     */
+    public CsvDecoder(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next line into the line buffer, without the line terminator.
+     * @return false if there are no more lines
+     * @throws IOException if the data cannot be read
+     */
+    public boolean nextLine() throws IOException {
+        line.setLength(0);
+        boolean hasData = false;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, BUFFER_SIZE);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return hasData;
+                }
+            }
+            hasData = true;
+            char c = buffer[position++];
+            if (c == '\n') {
+                return true;
+            }
+            if (c != '\r') {
+                line.append(c);
+            }
+        }
+    }
+
+    /**
+     * Decodes the date at the start of the current line.
+     * @return the date, or null if the line does not start with a date
+     */
+    public LocalDate decodeDate() {
+        return decodeDate(line);
+    }
+
+    /**
+     * Decodes a date in the format of YYYY-MM-DD at the start of the text without creating a string.
+     * @param text text to decode
+     * @return the date, or null if the text does not start with a date
+     */
+    public static LocalDate decodeDate(CharSequence text) {
+        if (text.length() < DATE_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 7);
+        int day = parseDigits(text, 8, 10);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Decodes the activities of the current line and adds them to activityList.
+     * @param activityList list to add the activities of the current line to
+     * @param date date of the current line
+     */
+    public void decodeActivities(ActivityList activityList, LocalDate date) {
+        int start = indexOf(ACTIVITY_SEPARATOR, DATE_LENGTH, line.length());
+        while (start >= 0 && start < line.length()) {
+            int end = indexOf(ACTIVITY_SEPARATOR, start + 1, line.length());
+            if (end < 0) {
+                end = line.length();
+            }
+            decodeActivity(activityList, start + 1, end, date);
+            start = end;
+        }
+    }
+
+    /**
+     * Decodes a single activity in the format of type, description and calories.
+     * @param activityList list to add the activity to
+     * @param start index of the first character of the activity
+     * @param end index after the last character of the activity
+     * @param date date the activity was conducted
+     */
+    private void decodeActivity(ActivityList activityList, int start, int end, LocalDate date) {
+        start = skipWhitespace(start, end);
+        if (start == end) {
+            return;
+        }
+        int descriptionStart = indexOf(FIELD_SEPARATOR, start, end) + 1;
+        int descriptionEnd = indexOf(FIELD_SEPARATOR, descriptionStart, end);
+        if (start + 1 >= end || descriptionStart == 0 || descriptionEnd < 0) {
+            System.out.println("Corrupted data. Activity should be either exercise or food");
+            return;
+        }
+        descriptionStart = skipWhitespace(descriptionStart, descriptionEnd);
+        int trimmedEnd = descriptionEnd;
+        while (trimmedEnd > descriptionStart && Character.isWhitespace(line.charAt(trimmedEnd - 1))) {
+            trimmedEnd--;
+        }
+        String description = line.substring(descriptionStart, trimmedEnd);
+        int calories;
+        try {
+            calories = parseCalories(descriptionEnd + 1, end);
+        } catch (NumberFormatException e) {
+            System.out.println("Corrupted data. Calories should be a number");
+            return;
+        }
+
+        switch (line.charAt(start + 1)) {
+        case FOOD_TYPE:
+            activityList.addActivity(new Food(description, calories, date));
+            break;
+        case EXERCISE_TYPE:
+            activityList.addActivity(new Exercise(description, calories, date));
+            break;
+        default:
+            System.out.println("Corrupted data. Activity should be either exercise or food");
+        }
+    }
+
+    /**
+     * Parses the calories found after the last space of the activity.
+     * @param start index to start looking for the calories
+     * @param end index after the last character of the activity
+     * @return calories of the activity
+     * @throws NumberFormatException if the calories are not a number
+     */
+    private int parseCalories(int start, int end) throws NumberFormatException {
+        while (end > start && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+        int index = end;
+        while (index > start && !Character.isWhitespace(line.charAt(index - 1))) {
+            index--;
+        }
+        boolean isNegative = index < end && line.charAt(index) == '-';
+        int digitsStart = isNegative ? index + 1 : index;
+        int calories = parseDigits(line, digitsStart, end);
+        if (calories < 0) {
+            throw new NumberFormatException();
+        }
+        return isNegative ? -calories : calories;
+    }
+
+    /**
+     * Parses a non-negative number without creating a string.
+     * @param text text containing the number
+     * @param start index of the first digit
+     * @param end index after the last digit
+     * @return the number, or -1 if there are no digits or a character is not a digit
+     */
+    private static int parseDigits(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private int skipWhitespace(int start, int end) {
+        while (start < end && Character.isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private int indexOf(char target, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (line.charAt(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Closes the underlying reader.
+     * @throws IOException if the reader cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
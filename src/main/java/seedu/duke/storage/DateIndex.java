@@ -0,0 +1,319 @@
+package seedu.duke.storage;
+
+import seedu.duke.model.ActivityList;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.DaySource;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Sidecar index of the .csv snapshot that maps each date to the bytes of its line.
+ * With the index, startup only registers the dates, and the line of a date is read and decoded
+ * when its activities are first needed.
+ *
+ * <p>The index file holds a magic number, a version, the length and last modified time of the snapshot
+ * it was built from and the number of dates, followed by the epoch day, byte offset and byte length of each
+ * date in date order.
+ *
+ * <p>The snapshot is opened when a date is first read and stays open until close, or until the snapshot is
+ * replaced through replaceSnapshot, which closes it first so that the replacement also works on Windows, where an
+ * open file cannot be replaced. A line that does not start with its date, as when the snapshot was replaced by
+ * another process, makes the index be rebuilt from the current snapshot.
+ */
+public class DateIndex implements DaySource {
+    private static final int MAGIC = 0x54524B49;
+    private static final int VERSION = 1;
+    private static final int DATE_LENGTH = 10;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final File indexFile;
+    private final File snapshotFile;
+    private RandomAccessFile snapshot;
+    private int[] epochDays;
+    private long[] offsets;
+    private int[] lengths;
+
+    private DateIndex(File indexFile, File snapshotFile) {
+        this.indexFile = indexFile;
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Adds the dates of the snapshot to calList without decoding their activities.
+     * The index is rebuilt first if it is missing or was built from a different snapshot.
+     *
+     * @param indexFile index file
+     * @param snapshotFile .csv snapshot the index belongs to
+     * @param calList used to store the current activities
+     * @return the index, which reads the dates from the snapshot until it is closed
+     * @throws IOException if the files cannot be read or written
+     */
+    public static DateIndex load(File indexFile, File snapshotFile, DayMap calList) throws IOException {
+        DateIndex index = new DateIndex(indexFile, snapshotFile);
+        if (!index.read()) {
+            index.rebuild();
+        }
+        calList.setDaySource(index);
+        for (int epochDay : index.epochDays) {
+            calList.addUnloadedDay(LocalDate.ofEpochDay(epochDay));
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the snapshot through an AtomicFile and rebuilds the index from the new snapshot.
+     * The dates not loaded yet keep the same line in the new snapshot, as the dates written to the journal since
+     * the snapshot was read have all been loaded.
+     *
+     * @param contents writes the new snapshot
+     * @throws IOException if the snapshot or the index cannot be written
+     */
+    public synchronized void replaceSnapshot(AtomicFile.Contents contents) throws IOException {
+        close();
+        AtomicFile.write(snapshotFile, contents);
+        rebuild();
+    }
+
+    /**
+     * Closes the snapshot. It is opened again if another date is read.
+     */
+    @Override
+    public synchronized void close() {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            snapshot.close();
+        } catch (IOException e) {
+            // Nothing was written through the snapshot, so there is nothing to lose by failing to close it.
+        }
+        snapshot = null;
+    }
+
+    /**
+     * Reads the index file if it was built from the current snapshot.
+     *
+     * @return true if the index was read, false if it has to be rebuilt
+     */
+    private boolean read() {
+        if (!indexFile.exists()) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != snapshotFile.length()
+                    || in.readLong() != snapshotFile.lastModified()) {
+                return false;
+            }
+            int dayCount = in.readInt();
+            int[] epochDays = new int[dayCount];
+            long[] offsets = new long[dayCount];
+            int[] lengths = new int[dayCount];
+            for (int i = 0; i < dayCount; i++) {
+                epochDays[i] = in.readInt();
+                offsets[i] = in.readLong();
+                lengths[i] = in.readInt();
+            }
+            setEntries(epochDays, offsets, lengths);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void setEntries(int[] epochDays, long[] offsets, int[] lengths) {
+        this.epochDays = epochDays;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    /**
+     * Builds the index from the current snapshot and writes it to the index file.
+     */
+    private void rebuild() throws IOException {
+        build().setEntriesOf(this);
+        write();
+    }
+
+    /**
+     * Builds the index by scanning the bytes of the snapshot for line breaks.
+     * Only the date at the start of each line is parsed.
+     */
+    private Entries build() throws IOException {
+        Entries entries = new Entries();
+        byte[] date = new byte[DATE_LENGTH];
+        try (InputStream in = new FileInputStream(snapshotFile)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long bufferStart = 0;
+            long lineStart = 0;
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    long offset = bufferStart + i;
+                    if (buffer[i] == '\n') {
+                        entries.addLine(date, lineStart, offset);
+                        lineStart = offset + 1;
+                    } else if (offset - lineStart < DATE_LENGTH) {
+                        date[(int) (offset - lineStart)] = buffer[i];
+                    }
+                }
+                bufferStart += read;
+            }
+            entries.addLine(date, lineStart, bufferStart);
+        }
+        return entries;
+    }
+
+    private static LocalDate parseDate(byte[] date) {
+        try {
+            return LocalDate.parse(new String(date, 0, DATE_LENGTH));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the index together with the length and last modified time of its snapshot.
+     */
+    private void write() throws IOException {
+        AtomicFile.write(indexFile, fileOut -> {
+            DataOutputStream out = new DataOutputStream(fileOut);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshotFile.length());
+            out.writeLong(snapshotFile.lastModified());
+            out.writeInt(epochDays.length);
+            for (int i = 0; i < epochDays.length; i++) {
+                out.writeInt(epochDays[i]);
+                out.writeLong(offsets[i]);
+                out.writeInt(lengths[i]);
+            }
+            out.flush();
+        });
+    }
+
+    /**
+     * Entries of an index that is being built, kept in the order of the lines in the snapshot.
+     */
+    private static class Entries {
+        private int[] epochDays = new int[INITIAL_CAPACITY];
+        private long[] offsets = new long[INITIAL_CAPACITY];
+        private int[] lengths = new int[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Adds the line between lineStart and lineEnd if it starts with a date.
+         */
+        void addLine(byte[] date, long lineStart, long lineEnd) {
+            int lineLength = (int) (lineEnd - lineStart);
+            LocalDate lineDate = lineLength >= DATE_LENGTH ? parseDate(date) : null;
+            if (lineDate == null) {
+                return;
+            }
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            epochDays[size] = (int) lineDate.toEpochDay();
+            offsets[size] = lineStart;
+            lengths[size] = lineLength;
+            size++;
+        }
+
+        /**
+         * Sorts the entries by date, as snapshots written before the index existed are not in date order,
+         * and sets them as the entries of the index.
+         */
+        void setEntriesOf(DateIndex index) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (first, second) -> Integer.compare(epochDays[first], epochDays[second]));
+            int[] sortedEpochDays = new int[size];
+            long[] sortedOffsets = new long[size];
+            int[] sortedLengths = new int[size];
+            for (int i = 0; i < size; i++) {
+                sortedEpochDays[i] = epochDays[order[i]];
+                sortedOffsets[i] = offsets[order[i]];
+                sortedLengths[i] = lengths[order[i]];
+            }
+            index.setEntries(sortedEpochDays, sortedOffsets, sortedLengths);
+        }
+    }
+
+    /**
+     * Reads the line of the given date from the snapshot and decodes its activities.
+     *
+     * @param date date to load the activities of
+     * @return list of activities of the date
+     */
+    @Override
+    public synchronized ActivityList loadDay(LocalDate date) {
+        ActivityList activityList = new ActivityList();
+        try {
+            byte[] line = readLine(date);
+            if (line != null && !startsWithDate(line, date)) {
+                close();
+                rebuild();
+                line = readLine(date);
+            }
+            if (line == null || !startsWithDate(line, date)) {
+                return activityList;
+            }
+            CsvDecoder decoder = new CsvDecoder(new InputStreamReader(new ByteArrayInputStream(line)));
+            decoder.nextLine();
+            decoder.decodeActivities(activityList, date);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return activityList;
+    }
+
+    /**
+     * Reads the line of the given date from the snapshot, opening the snapshot if it is closed.
+     *
+     * @return the line, cut short if the snapshot ends before it, or null if the date is not in the index
+     */
+    private byte[] readLine(LocalDate date) throws IOException {
+        int dayIndex = Arrays.binarySearch(epochDays, (int) date.toEpochDay());
+        if (dayIndex < 0) {
+            return null;
+        }
+        if (snapshot == null) {
+            snapshot = new RandomAccessFile(snapshotFile, "r");
+        }
+        long available = Math.max(0, snapshot.length() - offsets[dayIndex]);
+        byte[] line = new byte[(int) Math.min(lengths[dayIndex], available)];
+        snapshot.seek(offsets[dayIndex]);
+        snapshot.readFully(line);
+        return line;
+    }
+
+    private static boolean startsWithDate(byte[] line, LocalDate date) {
+        String dateString = date.toString();
+        if (line.length < DATE_LENGTH || dateString.length() != DATE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < DATE_LENGTH; i++) {
+            if (line[i] != dateString.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.duke.storage;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static seedu.duke.ui.Ui.displayNotSavedMessage;
+
+/**
+ * Writes journal records on a background thread, so that a command returns as soon as its changed dates are
+ * encoded.
+ * Records are queued by date, a newer record of a date replacing the one still waiting, and are written together
+ * once the oldest of them has waited flushDelayMillis, or sooner when a flush is asked for.
+ * Records that could not be written are kept and tried again on the next submit or flush.
+ */
+class JournalPersister implements Runnable {
+    private final RecordWriter recordWriter;
+    private TreeMap<LocalDate, String> pendingRecords = new TreeMap<>();
+    private long flushDelayMillis;
+    private long firstPendingMillis;
+    private boolean isFlushRequested;
+    private boolean isWriting;
+    private boolean isRetryBlocked;
+    private Thread thread;
+
+    /**
+     * Writes a batch of records to the disk.
+     */
+    interface RecordWriter {
+        void write(Collection<String> records) throws IOException;
+    }
+
+    /**
+     * Constructor for the persister.
+     * @param recordWriter writer called on the background thread with each batch of records
+     * @param flushDelayMillis longest time a record waits before it is written
+     */
+    JournalPersister(RecordWriter recordWriter, long flushDelayMillis) {
+        this.recordWriter = recordWriter;
+        this.flushDelayMillis = flushDelayMillis;
+    }
+
+    synchronized void setFlushDelay(long flushDelayMillis) {
+        this.flushDelayMillis = flushDelayMillis;
+        notifyAll();
+    }
+
+    /**
+     * Queues records to be written, starting the background thread on the first call.
+     * @param records encoded record of each changed date
+     */
+    synchronized void submit(Map<LocalDate, String> records) {
+        if (pendingRecords.isEmpty()) {
+            firstPendingMillis = System.currentTimeMillis();
+        }
+        pendingRecords.putAll(records);
+        isRetryBlocked = false;
+        if (thread == null) {
+            thread = new Thread(this, "storage-persister");
+            thread.setDaemon(true);
+            thread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+        }
+        notifyAll();
+    }
+
+    /**
+     * Writes the queued records now and waits until they have been written, or have failed to be.
+     */
+    synchronized void flush() {
+        if (thread == null || Thread.currentThread() == thread) {
+            return;
+        }
+        isFlushRequested = true;
+        isRetryBlocked = false;
+        notifyAll();
+        try {
+            while (isWriting || (!pendingRecords.isEmpty() && !isRetryBlocked)) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            TreeMap<LocalDate, String> records;
+            synchronized (this) {
+                try {
+                    waitForRecords();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                records = pendingRecords;
+                pendingRecords = new TreeMap<>();
+                isFlushRequested = false;
+                isWriting = true;
+            }
+            boolean isWritten = writeRecords(records.values());
+            synchronized (this) {
+                if (!isWritten) {
+                    records.forEach(pendingRecords::putIfAbsent);
+                    isRetryBlocked = true;
+                }
+                isWriting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until there are records to write and either the oldest has waited long enough or a flush is asked for.
+     */
+    private void waitForRecords() throws InterruptedException {
+        while (pendingRecords.isEmpty() || isRetryBlocked) {
+            wait();
+        }
+        long waitMillis = firstPendingMillis + flushDelayMillis - System.currentTimeMillis();
+        while (!isFlushRequested && waitMillis > 0) {
+            wait(waitMillis);
+            waitMillis = firstPendingMillis + flushDelayMillis - System.currentTimeMillis();
+        }
+    }
+
+    private boolean writeRecords(Collection<String> records) {
+        try {
+            recordWriter.write(records);
+            return true;
+        } catch (IOException e) {
+            displayNotSavedMessage();
+            return false;
+        }
+    }
+}
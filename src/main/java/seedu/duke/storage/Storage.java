@@ -1,33 +1,64 @@
 package seedu.duke.storage;
 
+import seedu.duke.logic.LatencyStats;
 import seedu.duke.model.ActivityList;
 import seedu.duke.model.DayMap;
-import seedu.duke.model.Exercise;
-import seedu.duke.model.Food;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.RandomAccessFile;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
-import static seedu.duke.ui.Ui.displayNotSavedMessage;
+import static seedu.duke.ui.ExceptionMessages.displayCompactionErrorMessage;
+import static seedu.duke.ui.ExceptionMessages.displayLoadDataErrorMessage;
 
 /**
  * Storage class to decode and encode the .csv file.
+ * Changes are appended to a journal file as whole-day records, and the journal is compacted into the .csv
+ * snapshot in the background once it grows past COMPACTION_THRESHOLD records.
+ * When enabled, a binary snapshot is kept next to the .csv snapshot and memory-mapped on startup instead.
+ * Journal records are written behind the commands by a JournalPersister, at most flush delay after the change
+ * and on exit, and are forced to the disk with each write. Snapshots are replaced atomically, so a crash loses at
+ * most the changes of the last flush delay and never leaves a file half-written.
  */
 public class Storage {
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String COMPACTING_JOURNAL_EXTENSION = ".journal.old";
+    private static final String BINARY_SNAPSHOT_EXTENSION = ".bin";
+    private static final String INDEX_EXTENSION = ".idx";
+    private static final String DATE_SEPARATOR = ",";
+    private static final int COMPACTION_THRESHOLD = 500;
+    private static final int COMPACTION_TIMEOUT_SECONDS = 30;
+    public static final long DEFAULT_FLUSH_DELAY_MILLIS = 1000;
+
     String filePath;
     File dataFile;
+    File journalFile;
+    File compactingJournalFile;
+    File binarySnapshotFile;
+    File indexFile;
+    private boolean isBinarySnapshotEnabled;
+    private boolean isDeferringUpdates;
+    private FileOutputStream journalStream;
+    private PrintWriter journalWriter;
+    private final JournalPersister persister = new JournalPersister(this::appendRecords, DEFAULT_FLUSH_DELAY_MILLIS);
+    private int journalRecordCount;
+    private ExecutorService compactor;
+    /** Index the dates of the .csv snapshot are loaded through, or null if they are loaded from the binary one. */
+    private volatile DateIndex dateIndex;
 
 
     /**
@@ -37,6 +68,34 @@ public class Storage {
     public Storage(String filePath) {
         this.filePath = filePath;
         dataFile = new File(filePath);
+        journalFile = new File(filePath + JOURNAL_EXTENSION);
+        compactingJournalFile = new File(filePath + COMPACTING_JOURNAL_EXTENSION);
+        binarySnapshotFile = new File(filePath + BINARY_SNAPSHOT_EXTENSION);
+        indexFile = new File(filePath + INDEX_EXTENSION);
+    }
+
+    /**
+     * Sets whether the binary snapshot is written on compaction and preferred when loading.
+     * @param isEnabled true to use the binary snapshot
+     */
+    public void setBinarySnapshotEnabled(boolean isEnabled) {
+        this.isBinarySnapshotEnabled = isEnabled;
+    }
+
+    /**
+     * Sets the longest time a change waits before it is written to the disk.
+     * @param flushDelayMillis delay in milliseconds, 0 to write each change as soon as possible
+     */
+    public void setFlushDelay(long flushDelayMillis) {
+        persister.setFlushDelay(flushDelayMillis);
+    }
+
+    /**
+     * Checks if the binary snapshot holds the same data as the .csv snapshot.
+     * @return true if the binary snapshot was written after the .csv snapshot
+     */
+    private boolean isBinarySnapshotCurrent() {
+        return binarySnapshotFile.exists() && binarySnapshotFile.lastModified() >= dataFile.lastModified();
     }
 
     /**
@@ -57,129 +116,321 @@ public class Storage {
     }
 
     /**
-     * Appends to the file.
-     * @param textToAdd string to append the file with
+     * Sets whether updates after each command are skipped, leaving the changed dates to be written by commit.
+     * A date changed many times in between is then written only once.
+     * @param isDeferring whether to defer updates
+     */
+    public void setDeferringUpdates(boolean isDeferring) {
+        this.isDeferringUpdates = isDeferring;
+    }
+
+    /**
+     * Updates the file after a command, unless updates are deferred, timed as the save phase of the command.
+     * Nothing is saved while dayMap is in a transaction, as the transaction may still be rolled back.
+     * @param dayMap dayMap to update the file with
+     */
+    public void updateFile(DayMap dayMap) {
+        if (!isDeferringUpdates) {
+            LatencyStats.startPhase(LatencyStats.SAVE);
+            commit(dayMap);
+            LatencyStats.endPhase();
+        }
+    }
+
+    /**
+     * Updates the file with a journal record for every date changed since the last update.
+     * Each record holds the full list of activities of that date, so replaying it replaces the date.
+     * Nothing is written while dayMap is in a transaction; its changed dates are written by the next commit after it.
+     * The records are encoded here and written by the persister thread, so this returns without waiting on the disk.
+     * @param dayMap dayMap to update the file with
+     */
+    public void commit(DayMap dayMap) {
+        if (dayMap.isInTransaction() || dayMap.getChangedDates().isEmpty()) {
+            return;
+        }
+        TreeMap<LocalDate, String> records = new TreeMap<>();
+        StringBuilder record = new StringBuilder();
+        for (LocalDate date : dayMap.getChangedDates()) {
+            record.setLength(0);
+            encodeDay(record, date, dayMap.getActivityList(date.atStartOfDay()));
+            records.put(date, record.toString());
+        }
+        dayMap.clearChangedDates();
+        persister.submit(records);
+    }
+
+    /**
+     * Writes every change committed so far to the disk, waiting until it is written.
+     */
+    public void flush() {
+        persister.flush();
+    }
+
+    /**
+     * Appends records to the journal and forces them to the disk. Only called on the persister thread.
+     * @param records records to append
+     * @throws IOException if the records cannot be written
+     */
+    private void appendRecords(Collection<String> records) throws IOException {
+        if (journalWriter == null) {
+            journalStream = new FileOutputStream(journalFile, true);
+            journalWriter = new PrintWriter(new BufferedWriter(new OutputStreamWriter(journalStream)));
+        }
+        for (String record : records) {
+            journalWriter.println(record);
+            journalRecordCount++;
+        }
+        journalWriter.flush();
+        if (journalWriter.checkError()) {
+            throw new IOException();
+        }
+        journalStream.getChannel().force(false);
+        if (journalRecordCount >= COMPACTION_THRESHOLD && !compactingJournalFile.exists()) {
+            rotateJournal();
+        }
+    }
+
+    /**
+     * Encodes the activities of a date as a line of CSV data. Only the dates changed since the last update are
+     * encoded, so the cost of an update follows the size of the change rather than of the history.
+     * A date without activities is encoded with nothing after the separator.
+     * @param record builder to encode the line into
+     * @param date date of the activities
+     * @param activityList activities of the date, may be null
+     */
+    private void encodeDay(StringBuilder record, LocalDate date, ActivityList activityList) {
+        record.append(date).append(DATE_SEPARATOR);
+        if (activityList != null && activityList.getNumberOfActivities() > 0) {
+            record.append(' ');
+            activityList.appendTo(record);
+        }
+    }
+
+    /**
+     * Moves the current journal aside and compacts it into the snapshot in the background.
+     * New records go into a fresh journal while the compaction runs.
+     */
+    private void rotateJournal() {
+        if (journalWriter != null) {
+            journalWriter.close();
+            journalWriter = null;
+        }
+        if (!journalFile.renameTo(compactingJournalFile)) {
+            return;
+        }
+        journalRecordCount = 0;
+        scheduleCompaction();
+    }
+
+    /**
+     * Schedules the compaction of the rotated journal on the compactor thread.
      */
-    private void appendToFile(String textToAdd) {
+    private void scheduleCompaction() {
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "storage-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            Runtime.getRuntime().addShutdownHook(new Thread(this::awaitCompaction));
+        }
         try {
-            FileWriter fw = new FileWriter(filePath, true);
-            BufferedWriter bw = new BufferedWriter(fw);
-            PrintWriter pw = new PrintWriter(bw);
-            pw.println(textToAdd);
-            pw.flush();
-            pw.close();
-            //System.out.println("record saved");
-            //displaySavedMessage();
-        } catch (Exception e) {
-            //System.out.println("record not saved");
-            displayNotSavedMessage();
+            compactor.submit(this::compact);
+        } catch (RejectedExecutionException e) {
+            // The program is exiting, the rotated journal is compacted on the next start instead.
         }
     }
 
     /**
-     * Overwrites the file.
-     * @param textToAdd string to override the file with
+     * Waits for a running compaction to finish so the snapshot is not left half-written on exit.
      */
-    private void writeToFile(String textToAdd) {
-        FileWriter fw = null;
+    private void awaitCompaction() {
+        compactor.shutdown();
         try {
-            fw = new FileWriter(filePath);
-            fw.write(textToAdd);
-            fw.close();
+            compactor.awaitTermination(COMPACTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Merges the rotated journal into the snapshot, then removes the rotated journal.
+     * The binary snapshot is rewritten from the merged snapshot if it is enabled.
+     * Only the files are read, so the compaction never touches the DayMap used by the input thread.
+     */
+    private void compact() {
+        try {
+            if (compactingJournalFile.exists()) {
+                mergeJournal();
+            }
+            if (isBinarySnapshotEnabled) {
+                DayMap snapshot = new DayMap();
+                loadRecords(snapshot, dataFile, false);
+                BinarySnapshot.write(binarySnapshotFile, snapshot);
+            }
         } catch (IOException e) {
-            System.out.println("Unable to write to file!");
+            displayCompactionErrorMessage();
         }
+    }
 
+    /**
+     * Merges the rotated journal into the .csv snapshot, then removes the rotated journal.
+     * The new snapshot replaces the old one through an AtomicFile. If dates are still loaded lazily from the old
+     * snapshot, the dateIndex closes it for the replacement and is rebuilt from the new snapshot. Should the
+     * program stop before the rotated journal is removed, replaying it again on the next start gives the same
+     * dates.
+     * @throws IOException if the files cannot be read or written
+     */
+    private void mergeJournal() throws IOException {
+        TreeMap<String, String> days = new TreeMap<>();
+        readRecords(dataFile, days);
+        readRecords(compactingJournalFile, days);
+        AtomicFile.Contents contents = out -> {
+            PrintWriter pw = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out)));
+            for (Map.Entry<String, String> day : days.entrySet()) {
+                if (!day.getValue().isEmpty()) {
+                    pw.println(day.getKey() + DATE_SEPARATOR + " " + day.getValue());
+                }
+            }
+            pw.flush();
+            if (pw.checkError()) {
+                throw new IOException();
+            }
+        };
+        DateIndex index = dateIndex;
+        if (index != null) {
+            index.replaceSnapshot(contents);
+        } else {
+            AtomicFile.write(dataFile, contents);
+        }
+        compactingJournalFile.delete();
     }
 
     /**
-     * Updates the file.
-     * @param dayMap dayMap to update the file with
+     * Reads the records of a file into a map of date to activities, later records replacing earlier ones.
+     * @param file file to read the records from
+     * @param days map to store the records in
+     * @throws IOException if the file cannot be read
      */
-    public void updateFile(DayMap dayMap) {
-        HashMap<LocalDate, ActivityList> dayHashMap;
-        dayHashMap = dayMap.getHashMap();
-        Iterator it = dayHashMap.entrySet().iterator();
-        writeToFile("");
-        while (it.hasNext()) {
-            Map.Entry pair = (Map.Entry) it.next();
-            String activities = pair.getValue().toString();
-            appendToFile(pair.getKey().toString() + ", " + activities);
+    private void readRecords(File file, TreeMap<String, String> days) throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int separatorIndex = line.indexOf(DATE_SEPARATOR);
+            if (separatorIndex > 0) {
+                days.put(line.substring(0, separatorIndex), line.substring(separatorIndex + 1).trim());
+            }
         }
-        //displaySaveMessage();
+        reader.close();
     }
 
     /**
      * Loads saved CSV data into the list when the program starts.
+     * The snapshot is read first, followed by the journal records written after it.
+     * Changes still waiting to be written are flushed first, so that they are loaded too.
      * @param calList used to store the current activities
      */
     public void loadData(DayMap calList) {
+        flush();
+        dateIndex = null;
         try {
             createFileHierarchy();
-            //Read from CSV- reads the file line by line and stores the lines in an array list
-            BufferedReader reader = new BufferedReader(new FileReader(filePath));
-            List<String> lines = new ArrayList<>();
-            String line = null;
-            while ((line = reader.readLine()) != null) {
-                lines.add(line);
+            removeTornRecord(compactingJournalFile);
+            removeTornRecord(journalFile);
+            boolean needsCompaction = compactingJournalFile.exists();
+            if (isBinarySnapshotEnabled && isBinarySnapshotCurrent()) {
+                needsCompaction |= !loadBinarySnapshot(calList);
+            } else {
+                //Read from CSV- only the dates are read now, their activities are decoded when first needed
+                dateIndex = DateIndex.load(indexFile, dataFile, calList);
+                needsCompaction |= isBinarySnapshotEnabled;
             }
-            //Read line by line
-            for (int i = 0; i < lines.size(); i++) {
-                processData(calList, lines.get(i));
+            loadRecords(calList, compactingJournalFile, true);
+            if (needsCompaction) {
+                scheduleCompaction();
             }
-
+            journalRecordCount = loadRecords(calList, journalFile, true);
+            calList.clearChangedDates();
         } catch (IOException e) {
-            System.out.println("Unable to load data");
+            displayLoadDataErrorMessage();
         }
     }
 
     /**
-     * Splits the current line of CSV data into date and activity, then processes the activity.
-     *
-     * @param calList used to store the current activities
-     * @param data line of CSV data
+     * Cuts off a last record that was only partly appended when the program stopped, so that it is neither
+     * replayed nor joined with the next record appended. Every complete record ends with a line break.
+     * @param file journal to check
+     * @throws IOException if the journal cannot be read or written
      */
-    private void processData(DayMap calList, String data) {
-        String dateString = data.substring(0, data.indexOf(','));
-        LocalDate date = LocalDate.parse(dateString);
-        //If the date is the same as today, append it to our list for the day
-        //if (date.compareTo(LocalDate.now()) == 0) {
-        String activities = data.substring(data.indexOf(",") + 1);
-        String firstActivityString = null;
-        while (activities.contains(",")) {
-            firstActivityString = activities.substring(0, activities.indexOf(','));
-            processActivity(calList, firstActivityString, date.atStartOfDay());
-            activities = activities.substring(activities.indexOf(",") + 1);
+    static void removeTornRecord(File file) throws IOException {
+        if (!file.exists()) {
+            return;
         }
-        processActivity(calList, activities, date.atStartOfDay());
+        try (RandomAccessFile journal = new RandomAccessFile(file, "rw")) {
+            long length = journal.length();
+            long recordsEnd = length;
+            while (recordsEnd > 0) {
+                journal.seek(recordsEnd - 1);
+                if (journal.read() == '\n') {
+                    break;
+                }
+                recordsEnd--;
+            }
+            if (recordsEnd < length) {
+                journal.setLength(recordsEnd);
+            }
+        }
+    }
 
+    /**
+     * Maps the binary snapshot, falling back to the .csv snapshot if it cannot be read or is corrupt.
+     * @param calList used to store the current activities
+     * @return true if the binary snapshot was loaded, false if the .csv snapshot was loaded instead
+     * @throws IOException if neither snapshot can be read
+     */
+    private boolean loadBinarySnapshot(DayMap calList) throws IOException {
+        try {
+            BinarySnapshot.load(binarySnapshotFile, calList);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            dateIndex = DateIndex.load(indexFile, dataFile, calList);
+            return false;
+        }
     }
 
     /**
-     * Splits the activity data into food or exercise, then adds the activity to calList.
+     * Decodes the records of a file into calList.
      *
      * @param calList used to store the current activities
-     * @param activity activity data in to format of type, description and calories
-     * @param date date the activity was conducted
-     */
-    private void processActivity(DayMap calList, String activity, LocalDateTime date) {
-        char typeOfActivity = activity.charAt(2);
-        String description = activity.substring(activity.indexOf("|") + 1);
-        description = description.substring(0, description.indexOf("|")).trim();
-        int calorieStartIndex = activity.lastIndexOf(' ');
-        String calorieString = activity.substring(calorieStartIndex).trim();
-        int calories = Integer.parseInt(calorieString);
-        switch (typeOfActivity) {
-        case 'F':
-            Food food = new Food(description, calories,date.toLocalDate(), true);
-            calList.addActivity(date, food);
-            break;
-        case 'E':
-            Exercise exercise = new Exercise(description, calories, date.toLocalDate(), true);
-            calList.addActivity(date, exercise);
-            break;
-        default:
-            System.out.println("Corrupted data. Activity should be either exercise or food");
+     * @param file file to decode
+     * @param isJournal true if each record replaces the activities already stored for its date
+     * @return number of records decoded
+     * @throws IOException if the file cannot be read
+     */
+    private int loadRecords(DayMap calList, File file, boolean isJournal) throws IOException {
+        if (!file.exists()) {
+            return 0;
+        }
+        int recordCount = 0;
+        try (CsvDecoder decoder = new CsvDecoder(new FileReader(file))) {
+            while (decoder.nextLine()) {
+                LocalDate date = decoder.decodeDate();
+                if (date == null) {
+                    continue;
+                }
+                ActivityList activityList = new ActivityList();
+                decoder.decodeActivities(activityList, date);
+                if (activityList.getNumberOfActivities() > 0) {
+                    calList.addDay(date, activityList);
+                } else if (isJournal) {
+                    calList.removeDay(date);
+                }
+                recordCount++;
+            }
         }
+        return recordCount;
     }
 }
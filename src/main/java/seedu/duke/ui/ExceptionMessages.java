@@ -28,6 +28,63 @@ public class ExceptionMessages {
         drawDivider();
     }
 
+    /**
+     * Prints error message when the file of a batch cannot be read.
+     *
+     * @param batchFilePath path of the file
+     */
+    public static void displayBatchFileErrorMessage(String batchFilePath) {
+        drawDivider();
+        System.out.println("Unable to read the commands in " + batchFilePath + "!");
+        drawDivider();
+    }
+
+    /**
+     * Prints error message when a command in a chain fails and the commands before it are undone.
+     *
+     * @param commandInput input of the command that failed
+     */
+    public static void displayChainUndoneMessage(String commandInput) {
+        drawDivider();
+        System.out.println("'" + commandInput + "' could not be carried out, "
+                + "so none of the commands in the chain were saved.");
+        drawDivider();
+    }
+
+    /**
+     * Prints error message when the file to import cannot be read.
+     *
+     * @param filePath path of the file
+     */
+    public static void displayImportFileErrorMessage(String filePath) {
+        drawDivider();
+        System.out.println("Unable to read the activities in " + filePath + "!");
+        drawDivider();
+    }
+
+    /**
+     * Prints error message when the file to export to cannot be written.
+     *
+     * @param filePath path of the file
+     */
+    public static void displayExportFileErrorMessage(String filePath) {
+        drawDivider();
+        System.out.println("Unable to write the activities to " + filePath + "!");
+        drawDivider();
+    }
+
+    /**
+     * Prints error message when the import or export command is in the wrong format.
+     */
+    public static void displayImportExportErrorMessage() {
+        drawDivider();
+        System.out.println("I do not understand what you mean!");
+        System.out.println("The input format is 'import FILE' or 'export FILE from/ X to/ Y'\n"
+                + " - where X and Y are the optional first and last date(YYYY-MM-DD) to export");
+        System.out.println("Please do input 'help' for more information.");
+        drawDivider();
+    }
+
     /**
      * Prints error message when NumberFormatException occurs in delete command.
      */
@@ -91,7 +148,19 @@ public class ExceptionMessages {
         System.out.println("The input format for finding food or exercise activity via keyword is 'find d/ X'\n"
                 + " - where keyword is X");
         System.out.println("The input format for finding calorie count via keyword is 'find c/ X'\n"
-                + " - where calories count is X");
+                + " - where calories count is X, or 'find c/ X-Y' for calories count from X to Y");
+        System.out.println("Please do input 'help' for more information.");
+        drawDivider();
+    }
+
+    /**
+     * Prints error message when error occurs in summary command.
+     */
+    public static void displaySummaryErrorMessage() {
+        drawDivider();
+        System.out.println("I do not understand what you mean!");
+        System.out.println("The input format for a summary is 'summary week', 'summary month' or 'summary X Y'\n"
+                + " - where X and Y are the first and last date(YYYY-MM-DD) of the summary");
         System.out.println("Please do input 'help' for more information.");
         drawDivider();
     }
@@ -340,6 +409,28 @@ public class ExceptionMessages {
         System.out.println();
     }
 
+    /**
+     * Prints out error message when the stored data cannot be loaded.
+     */
+    public static void displayLoadDataErrorMessage() {
+        System.out.println("Unable to load data");
+    }
+
+    /**
+     * Prints out error message when a stored activity refers to a description that does not exist.
+     */
+    public static void displayMissingDescriptionMessage() {
+        System.out.println("Corrupted data. Activity has no description");
+    }
+
+    /**
+     * Prints out error message when the data file cannot be compacted.
+     * Compaction runs in the background, so the message goes to the error output rather than a command's output.
+     */
+    public static void displayCompactionErrorMessage() {
+        Ui.getErrorOutput().println("Unable to write to file!");
+    }
+
     /**
      * Prints out error message when calorie count too big or small.
      */
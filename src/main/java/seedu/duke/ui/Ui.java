@@ -1,9 +1,59 @@
 package seedu.duke.ui;
 
+import seedu.duke.model.Activity;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
 /**
  * Deals with interactions with the user.
  */
 public class Ui {
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final double NANOSECONDS_PER_SECOND = 1e9;
+    private static final int MAXIMUM_LINES_SHOWN = 10;
+
+    /**
+     * Replaces standard output with a buffered sink that is only written out when it is full or flushed,
+     * so that a command is printed with a single write instead of one write per line.
+     *
+     * @param isQuiet whether output should be discarded instead, for scripted use
+     */
+    public static void useBufferedOutput(boolean isQuiet) {
+        OutputStream target = isQuiet ? OutputStream.nullOutputStream() : new FileOutputStream(FileDescriptor.out);
+        System.setOut(new PrintStream(new BufferedOutputStream(target, OUTPUT_BUFFER_SIZE), false));
+    }
+
+    /**
+     * Returns the output sink that everything is printed into.
+     *
+     * @return output sink
+     */
+    public static PrintStream getOutput() {
+        return System.out;
+    }
+
+    /**
+     * Returns the output for errors, which is neither buffered nor discarded in quiet mode, so that it can be
+     * written to from any thread without landing in the middle of a command's output.
+     *
+     * @return error output
+     */
+    public static PrintStream getErrorOutput() {
+        return System.err;
+    }
+
+    /**
+     * Writes out everything printed since the last flush, which is done once per command and before reading input.
+     */
+    public static void flushOutput() {
+        System.out.flush();
+    }
+
     /**
      * Prints out welcome message to user when program is run.
      */
@@ -83,6 +133,10 @@ public class Ui {
                 + "Listing:\n"
                 + "list                   - Prints out the list of entries.\n"
                 + "list DATE              - Prints out the list of entries for the date(YYYY-MM-DD), DATE\n"
+                + "list DATE1 DATE2       - Prints out the list of entries from DATE1 to DATE2\n"
+                + "summary week           - Prints out the net calories of the current week\n"
+                + "summary month          - Prints out the net calories of the current month\n"
+                + "summary DATE1 DATE2    - Prints out the net calories from DATE1 to DATE2\n"
                 + "\n"
                 + "Editing:\n"
                 + "edit n/ NAME, g/ GENDER, w/ WEIGHT, h/ HEIGHT, a/ AGE, af/ ACTIVITY_FACTOR, goal/ WEIGHT_GOALS\n"
@@ -106,6 +160,7 @@ public class Ui {
                 + "find e/ DESCRIPTION1 / DESCRIPTION2 .../ DESCRIPTION\n"
                 + "                        - Searches for all activities with AT LEAST one matching keyword from\n"
                 + "                          DESCRIPTION1 to DESCRIPTION\n"
+                + "find ... --page N      - Shows only page N of the results, 20 results per page\n"
                 + "\n"
                 + "Moving:\n"
                 + "move from/ INDEX1 below/ INDEX2\n"
@@ -118,6 +173,19 @@ public class Ui {
                 + "Graphing:\n"
                 + "graph                  - Generates a graph of target calorie and net calorie obtained up to\n"
                 + "                         last 7 days\n"
+                + "graph N                - Generates the graph for the latest N days with entries, grouped into\n"
+                + "                         weeks or months when they do not fit\n"
+                + "graph DATE1 DATE2      - Generates the graph from DATE1 to DATE2\n"
+                + "\n"
+                + "Importing and exporting:\n"
+                + "import FILE            - Adds the activities in the CSV or TSV file, FILE, one per line as\n"
+                + "                         DATE,TYPE,DESCRIPTION,CALORIE_COUNT with TYPE being food or exercise\n"
+                + "export FILE <from/ DATE1> <to/ DATE2>\n"
+                + "                       - Writes the activities from DATE1 to DATE2 into FILE in the same format\n"
+                + "\n"
+                + "Timing:\n"
+                + "stats                  - Prints the p50, p99 and max latency of each command so far, split into\n"
+                + "                         parsing, executing, rendering and saving\n"
                 + "\n"
                 + "Exiting:\n"
                 + "bye                    - Terminates the application\n";
@@ -224,4 +292,65 @@ public class Ui {
         System.out.println("Noted! The following has been added into list:");
     }
 
+    /**
+     * Prints out the activity that has been added or edited.
+     *
+     * @param activity activity added or edited
+     */
+    public static void displayActivity(Activity activity) {
+        System.out.println(activity);
+    }
+
+    /**
+     * Prints out message when deleting activity successful.
+     */
+    public static void displayActivityRemovedMessage() {
+        System.out.println("Activity removed!");
+    }
+
+    /**
+     * Prints out message when the page asked for is not in the results.
+     *
+     * @param page page asked for
+     * @param numberOfPages number of pages in the results
+     */
+    public static void displayPageOutOfRangeMessage(int page, int numberOfPages) {
+        System.out.println("There is no page " + page + ", the results have " + numberOfPages + " page(s)");
+    }
+
+    /**
+     * Prints out the number of commands run from a batch file and how fast they were run.
+     *
+     * @param commandCount number of commands run
+     * @param failedCount number of commands that could not be run
+     * @param elapsedNanos time taken to run and save the commands in nanoseconds
+     */
+    public static void displayBatchSummary(int commandCount, int failedCount, long elapsedNanos) {
+        double seconds = elapsedNanos / NANOSECONDS_PER_SECOND;
+        long commandsPerSecond = seconds > 0 ? Math.round(commandCount / seconds) : commandCount;
+        System.out.println(String.format("Ran %d commands in %.3f s (%d commands per second).",
+                commandCount, seconds, commandsPerSecond));
+        if (failedCount > 0) {
+            System.out.println(failedCount + " of them could not be understood.");
+        }
+    }
+
+    /**
+     * Prints out the number of activities imported and the lines that could not be imported.
+     *
+     * @param numberOfActivities number of activities imported
+     * @param numberOfDates number of dates the activities were added to
+     * @param invalidLineNumbers line numbers of the lines that could not be imported
+     */
+    public static void displayImportMessage(int numberOfActivities, int numberOfDates,
+            List<Integer> invalidLineNumbers) {
+        System.out.println("Imported " + numberOfActivities + " activities into " + numberOfDates + " dates.");
+        if (invalidLineNumbers.isEmpty()) {
+            return;
+        }
+        List<Integer> shownLineNumbers = invalidLineNumbers.subList(0,
+                Math.min(MAXIMUM_LINES_SHOWN, invalidLineNumbers.size()));
+        System.out.println(invalidLineNumbers.size() + " line(s) could not be imported, such as line(s) "
+                + shownLineNumbers);
+    }
 }
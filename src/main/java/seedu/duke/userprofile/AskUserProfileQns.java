@@ -31,6 +31,7 @@ public class AskUserProfileQns {
      */
     public static String input(String text) {
         System.out.print(text);
+        Ui.flushOutput();
         return Trakcal.in.nextLine();
     }
 
@@ -40,6 +41,7 @@ public class AskUserProfileQns {
      * @return user input
      */
     public static String input() {
+        Ui.flushOutput();
         return Trakcal.in.nextLine();
     }
 
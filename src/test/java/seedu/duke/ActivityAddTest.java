@@ -16,15 +16,15 @@ public class ActivityAddTest {
     private final LocalDate date = LocalDate.now();
 
     void createObjects(ActivityList dummyList) {
-        dummyList.addActivity(new Food("Apple", 50, date, false));
-        dummyList.addActivity(new Food("Banana", 100, date, false));
-        dummyList.addActivity(new Food("Apple pie", 55, date, false));
-        dummyList.addActivity(new Exercise("Juggle Apples", 100, date, false));
+        dummyList.addActivity(new Food("Apple", 50, date));
+        dummyList.addActivity(new Food("Banana", 100, date));
+        dummyList.addActivity(new Food("Apple pie", 55, date));
+        dummyList.addActivity(new Exercise("Juggle Apples", 100, date));
     }
 
     @Test
     void addActivityFood_success() {
-        Food food = new Food("Apple", 50, date, false);
+        Food food = new Food("Apple", 50, date);
         String output = food.getString();
         assertEquals("[F] | Apple | 50", output);
     }
@@ -43,7 +43,7 @@ public class ActivityAddTest {
 
     @Test
     void addActivityExercise_success() {
-        Exercise exercise = new Exercise("Running", 450, date, false);
+        Exercise exercise = new Exercise("Running", 450, date);
         String output = exercise.getString();
         assertEquals("[E] | Running | 450", output);
     }
@@ -1,12 +1,59 @@
 package seedu.duke;
 
 import org.junit.jupiter.api.Test;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.Exercise;
+import seedu.duke.model.Food;
 
+import java.time.LocalDate;
+import java.time.Month;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ActivityChainTest {
+    LocalDate date = LocalDate.of(2020, Month.AUGUST, 9);
+    LocalDate date2 = LocalDate.of(2020, Month.AUGUST, 10);
+
     @Test
     public void sampleTest() {
         assertTrue(true);
     }
+
+    @Test
+    public void rollbackTransaction_changesUndone() throws Exception {
+        DayMap dummyMap = new DayMap();
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Apple", 50, date));
+        dummyMap.addActivity(date.atStartOfDay(), new Exercise("Jogging", 100, date));
+        dummyMap.clearChangedDates();
+        dummyMap.setLastSeenList(dummyMap.getActivityList(date.atStartOfDay()));
+
+        dummyMap.beginTransaction();
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Banana", 101, date2));
+        dummyMap.insertActivity(0, new Food("Pear", 70, date));
+        dummyMap.deleteActivity(1);
+        dummyMap.rollbackTransaction();
+
+        assertEquals("2020-08-09, [F] | Apple | 50, [E] | Jogging | 100", dummyMap.toString(date.atStartOfDay()));
+        assertNull(dummyMap.getActivityList(date2.atStartOfDay()));
+        assertEquals(2, dummyMap.getLastSeenList().getNumberOfActivities());
+        assertEquals(-50, dummyMap.getNetCaloriesBetween(date, date2));
+        assertTrue(dummyMap.getChangedDates().isEmpty());
+        dummyMap.listActivitiesContainingDescription("Apple");
+        assertEquals(1, dummyMap.getLastSeenList().getNumberOfActivities());
+    }
+
+    @Test
+    public void commitTransaction_changesKept() {
+        DayMap dummyMap = new DayMap();
+        dummyMap.beginTransaction();
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Apple", 50, date));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Banana", 101, date2));
+        dummyMap.commitTransaction();
+        dummyMap.rollbackTransaction();
+
+        assertEquals("2020-08-10, [F] | Banana | 101", dummyMap.toString(date2.atStartOfDay()));
+        assertEquals(2, dummyMap.getChangedDates().size());
+    }
 }
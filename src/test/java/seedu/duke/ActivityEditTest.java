@@ -23,22 +23,22 @@ public class ActivityEditTest {
 
 
     void createObjects(ActivityList dummyList) {
-        dummyList.addActivity(new Food("Apple", 50, date, false));
-        dummyList.addActivity(new Food("Banana", 100, date, false));
-        dummyList.addActivity(new Food("Apple pie", 55, date, false));
-        dummyList.addActivity(new Exercise("Juggle Apples", 100, date, false));
+        dummyList.addActivity(new Food("Apple", 50, date));
+        dummyList.addActivity(new Food("Banana", 100, date));
+        dummyList.addActivity(new Food("Apple pie", 55, date));
+        dummyList.addActivity(new Exercise("Juggle Apples", 100, date));
     }
 
 
     void createObjects2(DayMap dummyMap) {
-        dummyMap.addActivity(date.atStartOfDay(), new Food("rice with eggs", 50, date, false));
-        dummyMap.addActivity(date.atStartOfDay(), new Exercise("run 2km", 100, date, false));
+        dummyMap.addActivity(date.atStartOfDay(), new Food("rice with eggs", 50, date));
+        dummyMap.addActivity(date.atStartOfDay(), new Exercise("run 2km", 100, date));
 
-        dummyMap.addActivity(date2.atStartOfDay(), new Exercise("run 10km", 51, date2, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("rice with tofu", 101, date2, false));
+        dummyMap.addActivity(date2.atStartOfDay(), new Exercise("run 10km", 51, date2));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("rice with tofu", 101, date2));
 
-        dummyMap.addActivity(date3.atStartOfDay(), new Food("rice with shit", 51, date3, false));
-        dummyMap.addActivity(date3.atStartOfDay(), new Food("rice with pork", 101, date3, false));
+        dummyMap.addActivity(date3.atStartOfDay(), new Food("rice with shit", 51, date3));
+        dummyMap.addActivity(date3.atStartOfDay(), new Food("rice with pork", 101, date3));
     }
 
     @Test
@@ -46,7 +46,7 @@ public class ActivityEditTest {
         ActivityList dummyList = new ActivityList();
         createObjects(dummyList);
 
-        Activity activity = new Exercise("jumping", 900, date, false);
+        Activity activity = new Exercise("jumping", 900, date);
         dummyList.insertActivity(0, activity);
 
         assertEquals("[E] | jumping | 900, [F] | Banana | 100, [F] | Apple pie | 55, "
@@ -74,7 +74,7 @@ public class ActivityEditTest {
         ActivityList dummyList = new ActivityList();
         createObjects(dummyList);
 
-        Activity activity = new Food("Pineapple", 77, date,false);
+        Activity activity = new Food("Pineapple", 77, date);
         dummyList.insertActivity(3, activity);
 
         assertEquals("[F] | Apple | 50, [F] | Banana | 100, [F] | Apple pie | 55, "
@@ -102,7 +102,7 @@ public class ActivityEditTest {
         ActivityList dummyList = new ActivityList();
         createObjects(dummyList);
 
-        Activity activity = new Exercise("jumping", 900, date,false);
+        Activity activity = new Exercise("jumping", 900, date);
         dummyList.insertActivity(3, activity);
 
         assertEquals("[F] | Apple | 50, [F] | Banana | 100, [F] | Apple pie | 55, "
@@ -130,7 +130,7 @@ public class ActivityEditTest {
         ActivityList dummyList = new ActivityList();
         createObjects(dummyList);
 
-        Activity activity = new Food("Pineapple", 77,  date,false);
+        Activity activity = new Food("Pineapple", 77,  date);
         dummyList.insertActivity(2, activity);
 
         assertEquals("[F] | Apple | 50, [F] | Banana | 100, [F] | Pineapple | 77, "
@@ -13,10 +13,10 @@ public class ActivityFindTest {
     private final LocalDate date = LocalDate.now();
 
     void createObjects(ActivityList dummyList) {
-        dummyList.addActivity(new Food("Apple", 50, date,false));
-        dummyList.addActivity(new Food("Banana", 100, date, false));
-        dummyList.addActivity(new Food("Apple pie", 55, date, false));
-        dummyList.addActivity(new Exercise("Juggle Apples", 100, date, false));
+        dummyList.addActivity(new Food("Apple", 50, date));
+        dummyList.addActivity(new Food("Banana", 100, date));
+        dummyList.addActivity(new Food("Apple pie", 55, date));
+        dummyList.addActivity(new Exercise("Juggle Apples", 100, date));
     }
 
     @Test
@@ -1,7 +1,9 @@
 package seedu.duke;
 
 import org.junit.jupiter.api.Test;
+import seedu.duke.model.Activity;
 import seedu.duke.model.ActivityList;
+import seedu.duke.model.Exercise;
 import seedu.duke.model.Food;
 
 import java.time.LocalDate;
@@ -15,9 +17,9 @@ class ActivityListTest {
     LocalDate date = LocalDate.now();
 
     void createObjects(ActivityList dummyList) {
-        dummyList.addActivity(new Food("Apple", 50, date, false));
-        dummyList.addActivity(new Food("Banana", 100, date, false));
-        dummyList.addActivity(new Food("Orange", 25, date, false));
+        dummyList.addActivity(new Food("Apple", 50, date));
+        dummyList.addActivity(new Food("Banana", 100, date));
+        dummyList.addActivity(new Food("Orange", 25, date));
     }
 
     @Test
@@ -33,4 +35,42 @@ class ActivityListTest {
         dummyList.clearList();
         assertEquals(0, dummyList.getNumberOfActivities());
     }
-}
\ No newline at end of file
+
+    @Test
+    void moveActivity_bothDirections_orderAndNetCalorieKept() {
+        createObjects(dummyList);
+        dummyList.addActivity(new Exercise("Jogging", 75, date));
+        dummyList.moveActivity(0, 2);
+        assertEquals("[F] | Banana | 100, [F] | Orange | 25, [F] | Apple | 50, [E] | Jogging | 75",
+                dummyList.toString());
+        dummyList.moveActivity(3, 0);
+        assertEquals("[E] | Jogging | 75, [F] | Banana | 100, [F] | Orange | 25, [F] | Apple | 50",
+                dummyList.toString());
+        assertEquals(100, dummyList.getNetCalorie());
+    }
+
+    @Test
+    void indexOfActivity_activityReadFromAnotherList_found() {
+        createObjects(dummyList);
+        ActivityList otherList = new ActivityList();
+        otherList.addActivitiesWithCaloriesBetween(dummyList, 30, 100);
+        assertEquals("[F] | Apple | 50, [F] | Banana | 100", otherList.toString());
+        Activity banana = otherList.getActivity(1);
+        assertEquals(1, dummyList.indexOfActivity(banana));
+        assertEquals(-1, dummyList.indexOfActivity(new Food("Banana", 100, date)));
+        assertEquals(date, otherList.getDateOfActivityAtIndex(1));
+    }
+
+    @Test
+    void addActivity_manyActivities_allKept() {
+        for (int i = 0; i < 1000; i++) {
+            dummyList.addActivity(new Food("Apple", i, date));
+        }
+        ActivityList copy = new ActivityList();
+        copy.setActivities(dummyList);
+        copy.addActivities(dummyList);
+        assertEquals(2000, copy.getNumberOfActivities());
+        assertEquals(999, copy.getActivity(1999).getActivityCalories());
+        assertEquals(2 * 999 * 1000 / 2, copy.getNetCalorie());
+    }
+}
@@ -24,14 +24,14 @@ class AdvancedListingTest {
 
 
     void createObjects(DayMap dummyMap) {
-        dummyMap.addActivity(date.atStartOfDay(), new Food("rice with eggs", 50, date, false));
-        dummyMap.addActivity(date.atStartOfDay(), new Exercise("run 2km", 100, date, false));
+        dummyMap.addActivity(date.atStartOfDay(), new Food("rice with eggs", 50, date));
+        dummyMap.addActivity(date.atStartOfDay(), new Exercise("run 2km", 100, date));
 
-        dummyMap.addActivity(date2.atStartOfDay(), new Exercise("run 10km", 51,  date2,false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("rice with tofu", 101, date2, false));
+        dummyMap.addActivity(date2.atStartOfDay(), new Exercise("run 10km", 51,  date2));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("rice with tofu", 101, date2));
 
-        dummyMap.addActivity(date3.atStartOfDay(), new Food("rice with vegs", 51, date3, false));
-        dummyMap.addActivity(date3.atStartOfDay(), new Food("rice with pork", 101, date3, false));
+        dummyMap.addActivity(date3.atStartOfDay(), new Food("rice with vegs", 51, date3));
+        dummyMap.addActivity(date3.atStartOfDay(), new Food("rice with pork", 101, date3));
     }
 
 
@@ -0,0 +1,46 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.model.DayMap;
+import seedu.duke.storage.DateIndex;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DateIndexTest {
+    LocalDate date = LocalDate.of(2020, 8, 9);
+    LocalDate date2 = LocalDate.of(2020, 8, 10);
+
+    @Test
+    void replaceSnapshot_shiftedLines_unloadedDatesStillRead() throws IOException {
+        Path directory = Files.createTempDirectory("trakcal");
+        Path snapshot = directory.resolve("tpcsv.csv");
+        Files.writeString(snapshot, "2020-08-09, [F] | Apple | 50\n2020-08-10, [F] | Banana | 101\n");
+        DayMap dayMap = new DayMap();
+        DateIndex index = DateIndex.load(directory.resolve("tpcsv.csv.idx").toFile(), snapshot.toFile(), dayMap);
+        assertEquals("2020-08-09, [F] | Apple | 50", dayMap.toString(date.atStartOfDay()));
+
+        index.replaceSnapshot(out -> out.write(("2020-08-08, [F] | Rice | 5\n2020-08-09, [F] | Apple | 50\n"
+                + "2020-08-10, [F] | Banana | 101\n").getBytes(StandardCharsets.UTF_8)));
+        assertEquals("2020-08-10, [F] | Banana | 101", dayMap.toString(date2.atStartOfDay()));
+        index.close();
+    }
+
+    @Test
+    void loadDay_snapshotReplacedElsewhere_indexRebuilt() throws IOException {
+        Path directory = Files.createTempDirectory("trakcal");
+        Path snapshot = directory.resolve("tpcsv.csv");
+        Files.writeString(snapshot, "2020-08-09, [F] | Apple | 50\n2020-08-10, [F] | Banana | 101\n");
+        DayMap dayMap = new DayMap();
+        DateIndex index = DateIndex.load(directory.resolve("tpcsv.csv.idx").toFile(), snapshot.toFile(), dayMap);
+
+        Files.writeString(snapshot, "2020-08-09, [F] | Apple pie | 55\n2020-08-10, [F] | Banana | 101\n");
+        assertEquals("2020-08-10, [F] | Banana | 101", dayMap.toString(date2.atStartOfDay()));
+        index.close();
+    }
+}
@@ -1,26 +1,32 @@
 package seedu.duke;
 
 import org.junit.jupiter.api.Test;
+import seedu.duke.exception.KeywordNotFoundException;
+import seedu.duke.exception.ListNotFoundException;
 import seedu.duke.model.DayMap;
+import seedu.duke.model.Exercise;
 import seedu.duke.model.Food;
 
 import java.time.LocalDate;
 import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DayMapTest {
     LocalDate date = LocalDate.of(2020, Month.AUGUST, 9);
     LocalDate date2 = LocalDate.of(2020, Month.AUGUST, 10);
 
     void createObjects(DayMap dummyMap) {
-        dummyMap.addActivity(date.atStartOfDay(), new Food("Apple", 50, date, false));
-        dummyMap.addActivity(date.atStartOfDay(), new Food("Banana", 100, date, false));
-        dummyMap.addActivity(date.atStartOfDay(), new Food("Orange", 25, date, false));
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Apple", 50, date));
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Banana", 100, date));
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Orange", 25, date));
 
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("Apple2", 51, date2, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("Banana2", 101, date2, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("Orange2", 26, date2, false));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Apple2", 51, date2));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Banana2", 101, date2));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Orange2", 26, date2));
     }
 
     @Test
@@ -32,4 +38,84 @@ class DayMapTest {
         assertEquals("2020-08-10, [F] | Apple2 | 51, [F] | Banana2 | 101, [F] | Orange2 | 26",
                 dummyMap.toString(date2.atStartOfDay()));
     }
+
+    @Test
+    void findAllAndEither_matchingActivities_latestDateFirst() throws KeywordNotFoundException {
+        DayMap dummyMap = new DayMap();
+        createObjects(dummyMap);
+        dummyMap.listActivitiesContainingAll("a/Apple /51");
+        assertEquals("[F] | Apple2 | 51", dummyMap.getLastSeenList().toString());
+        dummyMap.listActivitiesContainingEither("e/Orange /Banana2");
+        assertEquals("[F] | Banana2 | 101, [F] | Orange2 | 26, [F] | Orange | 25",
+                dummyMap.getLastSeenList().toString());
+    }
+
+    @Test
+    void findDescription_removedDay_notFound() {
+        DayMap dummyMap = new DayMap();
+        createObjects(dummyMap);
+        dummyMap.removeDay(date2);
+        assertThrows(KeywordNotFoundException.class, () -> dummyMap.listActivitiesContainingDescription("Apple2"));
+    }
+
+    @Test
+    void findCalorie_rangeOfCalories_activitiesWithinRange() throws KeywordNotFoundException {
+        DayMap dummyMap = new DayMap();
+        createObjects(dummyMap);
+        dummyMap.listActivitiesContainingCalorie(26, 51);
+        assertEquals("[F] | Apple2 | 51, [F] | Orange2 | 26, [F] | Apple | 50",
+                dummyMap.getLastSeenList().toString());
+        assertThrows(KeywordNotFoundException.class, () -> dummyMap.listActivitiesContainingCalorie(52, 99));
+    }
+
+    @Test
+    void editAndDeleteFromFindResults_owningDayUpdated() throws KeywordNotFoundException {
+        DayMap dummyMap = new DayMap();
+        createObjects(dummyMap);
+        dummyMap.listActivitiesContainingDescription("Orange");
+        dummyMap.insertActivity(0, new Food("Grapes", 30, date2));
+        assertEquals("2020-08-10, [F] | Apple2 | 51, [F] | Banana2 | 101, [F] | Grapes | 30",
+                dummyMap.toString(date2.atStartOfDay()));
+        assertEquals(182, dummyMap.getNetCalorieOfDay(date2));
+
+        dummyMap.deleteActivity(1);
+        dummyMap.deleteActivity(0);
+        assertEquals("2020-08-09, [F] | Apple | 50, [F] | Banana | 100", dummyMap.toString(date.atStartOfDay()));
+        assertEquals("2020-08-10, [F] | Apple2 | 51, [F] | Banana2 | 101", dummyMap.toString(date2.atStartOfDay()));
+    }
+
+    @Test
+    void dateRanges_datesInOrder() throws ListNotFoundException {
+        DayMap dummyMap = new DayMap();
+        createObjects(dummyMap);
+        LocalDate date3 = LocalDate.of(2020, Month.JULY, 1);
+        dummyMap.addActivity(date3.atStartOfDay(), new Food("Pear", 10, date3));
+        assertEquals(Arrays.asList(date, date2), dummyMap.getLastDates(2));
+        assertEquals(Arrays.asList(date3, date, date2), dummyMap.getLastDates(7));
+        assertEquals(Arrays.asList(date3, date), new ArrayList<>(dummyMap.getDatesBetween(date3, date)));
+
+        dummyMap.listActivitiesBetween(date.minusDays(1), date);
+        assertEquals("[F] | Apple | 50, [F] | Banana | 100, [F] | Orange | 25",
+                dummyMap.getLastSeenList().toString());
+        assertThrows(ListNotFoundException.class, () -> dummyMap.listActivitiesBetween(date2, date));
+    }
+
+    @Test
+    void netCaloriesBetween_afterChanges_runningTotals() {
+        DayMap dummyMap = new DayMap();
+        createObjects(dummyMap);
+        dummyMap.addActivity(date2.atStartOfDay(), new Exercise("Jogging", 78, date2));
+        assertEquals(175, dummyMap.getNetCaloriesBetween(date, date));
+        assertEquals(275, dummyMap.getNetCaloriesBetween(date, date2));
+        assertEquals(2, dummyMap.getNumberOfDaysBetween(date.minusYears(3), date2.plusYears(3)));
+
+        dummyMap.removeDay(date);
+        assertEquals(100, dummyMap.getNetCaloriesBetween(date, date2));
+        assertEquals(1, dummyMap.getNumberOfDaysBetween(date, date2));
+
+        LocalDate date3 = LocalDate.of(2015, Month.JANUARY, 1);
+        dummyMap.addActivity(date3.atStartOfDay(), new Food("Cake", 300, date3));
+        assertEquals(400, dummyMap.getNetCaloriesBetween(date3, date2));
+        assertEquals(2, dummyMap.getNumberOfDaysBetween(date3, date2));
+    }
 }
@@ -0,0 +1,38 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.model.Activity;
+import seedu.duke.model.DescriptionPool;
+import seedu.duke.model.Exercise;
+import seedu.duke.model.Food;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DescriptionPoolTest {
+
+    @Test
+    void intern_repeatedDescription_sameIdAndString() {
+        String description = new String("pool rice");
+        int id = DescriptionPool.intern(description);
+        assertEquals(id, DescriptionPool.intern(new String("pool rice")));
+        assertNotEquals(id, DescriptionPool.intern("pool noodles"));
+        assertSame(description, DescriptionPool.get(id));
+    }
+
+    @Test
+    void activity_sameDescriptionOnDifferentDays_descriptionShared() {
+        LocalDate date = LocalDate.of(2020, 10, 1);
+        Activity food = new Food(new String("pool apple"), 50, date);
+        Activity exercise = new Exercise(new String("pool apple"), 20, date.plusDays(1));
+        assertEquals(food.getDescriptionId(), exercise.getDescriptionId());
+        assertSame(food.getActivityDescription(), exercise.getActivityDescription());
+        assertEquals(date, food.getActivityDate());
+        assertEquals(date.plusDays(1), exercise.getActivityDate());
+        assertNull(new Food("pool apple", 50, null).getActivityDate());
+    }
+}
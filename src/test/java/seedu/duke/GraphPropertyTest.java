@@ -25,8 +25,8 @@ class GraphPropertyTest {
     @Test
     public void setProperty_TargetCalorieAsMiddle_success() {
         DayMap dummyMap = setDummyMap();
-        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", 1000, date1, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 2000, date2, false));
+        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", 1000, date1));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 2000, date2));
         GraphProperty graphProperty = new GraphProperty(dummyMap, 1500);
         graphProperty.setProperties();
         assertEquals(2, graphProperty.column);
@@ -37,8 +37,8 @@ class GraphPropertyTest {
     @Test
     public void setProperty_TargetCalorieInLower_success() {
         DayMap dummyMap = setDummyMap();
-        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", 1000, date1, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 2000, date2, false));
+        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", 1000, date1));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 2000, date2));
         GraphProperty graphProperty = new GraphProperty(dummyMap, 500);
         graphProperty.setProperties();
         assertEquals(2, graphProperty.column);
@@ -49,8 +49,8 @@ class GraphPropertyTest {
     @Test
     public void setProperty_TargetCalorieInHigher_success() {
         DayMap dummyMap = setDummyMap();
-        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", 1000, date1, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 2000, date2, false));
+        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", 1000, date1));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 2000, date2));
         GraphProperty graphProperty = new GraphProperty(dummyMap, 3000);
         graphProperty.setProperties();
         assertEquals(2, graphProperty.column);
@@ -70,8 +70,8 @@ class GraphPropertyTest {
     @Test
     public void setProperty_NegativeCalories_success() {
         DayMap dummyMap = setDummyMap();
-        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", -1000, date1, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 2000, date2, false));
+        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", -1000, date1));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 2000, date2));
         GraphProperty graphProperty = new GraphProperty(dummyMap, 1000);
         graphProperty.setProperties();
         assertEquals(2, graphProperty.column);
@@ -82,8 +82,8 @@ class GraphPropertyTest {
     @Test
     public void setProperty_sameCalories_success() {
         DayMap dummyMap = setDummyMap();
-        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", 1000, date1, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 1000, date2, false));
+        dummyMap.addActivity(date1.atStartOfDay(), new Food("apple", 1000, date1));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("banana", 1000, date2));
         GraphProperty graphProperty = new GraphProperty(dummyMap, 1000);
         graphProperty.setProperties();
         assertEquals(2, graphProperty.column);
@@ -91,5 +91,36 @@ class GraphPropertyTest {
         assertEquals(995, graphProperty.minCalories);
     }
 
+    @Test
+    public void setProperty_moreDaysThanColumns_groupedIntoWeeks() {
+        DayMap dummyMap = setDummyMap();
+        LocalDate monday = LocalDate.of(2020, Month.OCTOBER, 5);
+        for (int i = 0; i < 28; i++) {
+            LocalDate date = monday.plusDays(i);
+            dummyMap.addActivity(date.atStartOfDay(), new Food("apple", 1000 + 100 * (i / 7), date));
+        }
+        GraphProperty graphProperty = new GraphProperty(dummyMap, 1000, 28);
+        graphProperty.setProperties();
+        assertEquals(4, graphProperty.column);
+        assertEquals(1300, graphProperty.maxCalories);
+        assertEquals(1000, graphProperty.minCalories);
+        assertEquals("05/10 12/10 19/10 26/10 ", graphProperty.parseDate(graphProperty.groupIntoBuckets(
+                dummyMap.getLastDates(28))));
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void setProperty_moreWeeksThanColumns_groupedIntoMonths() {
+        DayMap dummyMap = setDummyMap();
+        LocalDate monday = LocalDate.of(2020, Month.OCTOBER, 5);
+        for (int i = 0; i < 20; i++) {
+            LocalDate date = monday.plusWeeks(i);
+            dummyMap.addActivity(date.atStartOfDay(), new Food("apple", 1000, date));
+        }
+        GraphProperty graphProperty = new GraphProperty(dummyMap, 1000, 20);
+        graphProperty.setProperties();
+        assertEquals(5, graphProperty.column);
+        assertEquals("Oct 20 Nov 20 Dec 20 Jan 21 Feb 21 ", graphProperty.parseDate(graphProperty.groupIntoBuckets(
+                dummyMap.getLastDates(20))));
+        assertEquals(6, graphProperty.getLabelLength());
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.ExportCommand;
+import seedu.duke.command.ImportCommand;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.Exercise;
+import seedu.duke.model.Food;
+import seedu.duke.storage.ActivityImporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImportExportTest {
+    LocalDate date = LocalDate.of(2020, Month.AUGUST, 9);
+    LocalDate date2 = LocalDate.of(2020, Month.AUGUST, 10);
+
+    @Test
+    void importFile_validAndInvalidLines_validLinesAdded() throws IOException {
+        Path file = Files.createTempFile("trakcal", ".csv");
+        Files.write(file, ("date,type,description,calories\n"
+                + "2020-08-09,food,Apple,50\n"
+                + "2020-08-09,exercise,\"Jogging, slowly\",100\n"
+                + "2020-08-10,f,Banana,101\n"
+                + "2020-08-10,food,Banana,0\n"
+                + "2020-08-10,drink,Tea,10\n"
+                + "2020-08-32,food,Pear,10\n").getBytes());
+
+        ActivityImporter importer = new ActivityImporter(file);
+        importer.read();
+        assertEquals(2, importer.getActivities().size());
+        assertEquals(List.of(3, 5, 6, 7), importer.getInvalidLineNumbers());
+
+        Files.write(file, ("2020-08-09,food,Apple,50\n"
+                + "2020-08-09,exercise,Jogging,100\n"
+                + "2020-08-10,f,Banana,101\n").getBytes());
+        DayMap dummyMap = new DayMap();
+        ImportCommand command = new ImportCommand(file.toString());
+        command.setData(dummyMap);
+        command.execute();
+        assertEquals("2020-08-09, [F] | Apple | 50, [E] | Jogging | 100", dummyMap.toString(date.atStartOfDay()));
+        assertEquals("2020-08-10, [F] | Banana | 101", dummyMap.toString(date2.atStartOfDay()));
+        assertEquals(2, dummyMap.getChangedDates().size());
+    }
+
+    @Test
+    void export_thenImport_sameActivities() throws IOException {
+        DayMap dummyMap = new DayMap();
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Apple", 50, date));
+        dummyMap.addActivity(date.atStartOfDay(), new Exercise("Jogging", 100, date));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Banana", 101, date2));
+
+        Path file = Files.createTempFile("trakcal", ".tsv");
+        ExportCommand command = new ExportCommand(file.toString(), date2, LocalDate.MAX);
+        command.setData(dummyMap);
+        command.execute();
+        assertEquals(List.of("date\ttype\tdescription\tcalories", "2020-08-10\tfood\tBanana\t101"),
+                Files.readAllLines(file));
+
+        command = new ExportCommand(file.toString(), LocalDate.MIN, LocalDate.MAX);
+        command.setData(dummyMap);
+        command.execute();
+        DayMap importedMap = new DayMap();
+        ImportCommand importCommand = new ImportCommand(file.toString());
+        importCommand.setData(importedMap);
+        importCommand.execute();
+        assertEquals(dummyMap.toString(date.atStartOfDay()), importedMap.toString(date.atStartOfDay()));
+        assertEquals(dummyMap.toString(date2.atStartOfDay()), importedMap.toString(date2.atStartOfDay()));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.model.Exercise;
+import seedu.duke.model.Food;
+import seedu.duke.model.KeywordIndex;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KeywordIndexTest {
+    LocalDate date = LocalDate.of(2020, 10, 9);
+    LocalDate date2 = LocalDate.of(2020, 10, 10);
+    LocalDate date3 = LocalDate.of(2020, 10, 11);
+    Set<LocalDate> allDates = Set.of(date, date2, date3);
+
+    KeywordIndex createIndex() {
+        KeywordIndex index = new KeywordIndex();
+        index.addActivity(date, new Food("fried rice", 500, date));
+        index.addActivity(date2, new Food("ricecake", 200, date2));
+        index.addActivity(date3, new Exercise("run 2km", 100, date3));
+        return index;
+    }
+
+    @Test
+    void getDatesContaining_wholeAndPartialWords_datesOfWordsContainingThem() {
+        KeywordIndex index = createIndex();
+        assertEquals(Set.of(date, date2), index.getDatesContaining("rice", allDates));
+        assertEquals(Set.of(date, date2), index.getDatesContaining("ice", allDates));
+        assertEquals(Set.of(date), index.getDatesContaining("ied ric", allDates));
+        assertEquals(Set.of(date3), index.getDatesContaining("km", allDates));
+        assertEquals(Set.of(), index.getDatesContaining("cake fried", allDates));
+        assertEquals(Set.of(), index.getDatesContaining("noodles", allDates));
+    }
+
+    @Test
+    void getDatesContaining_typeOrCalories_everyDate() {
+        KeywordIndex index = createIndex();
+        assertEquals(allDates, index.getDatesContaining("500", allDates));
+        assertEquals(allDates, index.getDatesContaining("[E]", allDates));
+        assertEquals(Set.of(date, date2), index.getDatesContainingAll(List.of("rice", "|"), allDates));
+    }
+
+    @Test
+    void removeActivity_lastActivityWithWord_wordNoLongerFound() {
+        KeywordIndex index = createIndex();
+        index.removeActivity(date2, new Food("ricecake", 200, date2));
+        assertEquals(Set.of(date), index.getDatesContaining("rice", allDates));
+        assertEquals(Set.of(), index.getDatesContaining("cake", allDates));
+    }
+}
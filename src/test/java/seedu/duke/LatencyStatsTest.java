@@ -0,0 +1,58 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.logic.LatencyHistogram;
+import seedu.duke.logic.LatencyStats;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyStatsTest {
+
+    @Test
+    void getValueAtPercentile_recordedValues_withinOneBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 500_000 && median <= 500_000 * 9 / 8);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void getValueAtPercentile_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(5);
+        histogram.record(-1);
+        assertEquals(0, histogram.getValueAtPercentile(1));
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(5, histogram.getValueAtPercentile(99));
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(50));
+    }
+
+    @Test
+    void print_nestedPhases_eachCommandListed() {
+        LatencyStats.clear();
+        LatencyStats.startCommand();
+        LatencyStats.startPhase(LatencyStats.PARSE);
+        LatencyStats.startPhase(LatencyStats.SAVE);
+        LatencyStats.endPhase();
+        LatencyStats.endPhase();
+        LatencyStats.endCommand("add");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LatencyStats.print(new PrintStream(output));
+        assertTrue(output.toString().contains("add (1 commands)"));
+        assertTrue(output.toString().contains("save"));
+        LatencyStats.clear();
+    }
+}
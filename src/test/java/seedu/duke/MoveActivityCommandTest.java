@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import seedu.duke.command.Command;
 import seedu.duke.command.ListCommand;
 import seedu.duke.command.MoveActivityCommand;
+import seedu.duke.exception.KeywordNotFoundException;
 import seedu.duke.exception.ListNotFoundException;
 import seedu.duke.logic.Parser;
 import seedu.duke.model.DayMap;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 import java.time.Month;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MoveActivityCommandTest {
 
@@ -22,13 +24,13 @@ public class MoveActivityCommandTest {
     LocalDate date2 = LocalDate.of(2020, Month.AUGUST, 10);
 
     void createObjects(DayMap dummyMap) {
-        dummyMap.addActivity(date.atStartOfDay(), new Food("Apple", 50, date, false));
-        dummyMap.addActivity(date.atStartOfDay(), new Food("Banana", 100, date, false));
-        dummyMap.addActivity(date.atStartOfDay(), new Food("Orange", 25, date, false));
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Apple", 50, date));
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Banana", 100, date));
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Orange", 25, date));
 
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("Apple2", 51, date2, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("Banana2", 101, date2, false));
-        dummyMap.addActivity(date2.atStartOfDay(), new Food("Orange2", 26, date2, false));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Apple2", 51, date2));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Banana2", 101, date2));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Orange2", 26, date2));
     }
 
 
@@ -93,6 +95,20 @@ public class MoveActivityCommandTest {
     }
 
 
+    @Test
+    void moveInFindResult_noDateChanged() throws KeywordNotFoundException, ListNotFoundException {
+        DayMap dummyMap = new DayMap();
+        createObjects(dummyMap);
+        dummyMap.listActivitiesContainingDescription("Apple");
+        dummyMap.clearChangedDates();
+
+        dummyMap.move(2, 0);
+        assertTrue(dummyMap.getChangedDates().isEmpty());
+        assertEquals("2020-08-10, [F] | Apple2 | 51, [F] | Banana2 | 101, [F] | Orange2 | 26",
+                dummyMap.toString(date2.atStartOfDay()));
+    }
+
+
     @Test
     void listNotFoundException_IfTryToAccessEmptyLastSeenList() {
         DayMap dummyMap = new DayMap();
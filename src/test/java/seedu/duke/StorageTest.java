@@ -0,0 +1,156 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.model.DayMap;
+import seedu.duke.model.Exercise;
+import seedu.duke.model.Food;
+import seedu.duke.storage.BinarySnapshot;
+import seedu.duke.storage.Storage;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Month;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StorageTest {
+    LocalDate date = LocalDate.of(2020, Month.AUGUST, 9);
+    LocalDate date2 = LocalDate.of(2020, Month.AUGUST, 10);
+
+    Path dataPath;
+
+    Storage createStorage() throws IOException {
+        createDataPath();
+        return new Storage(dataPath.toString());
+    }
+
+    void createDataPath() throws IOException {
+        Path directory = Files.createTempDirectory("trakcal");
+        dataPath = directory.resolve("tpdata").resolve("tpcsv.csv");
+    }
+
+    void createObjects(DayMap dummyMap) {
+        dummyMap.addActivity(date.atStartOfDay(), new Food("Apple", 50, date));
+        dummyMap.addActivity(date.atStartOfDay(), new Exercise("Jogging", 100, date));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Banana", 101, date2));
+    }
+
+    @Test
+    void updateFile_thenLoadData_sameActivities() throws IOException {
+        Storage storage = createStorage();
+        DayMap dummyMap = new DayMap();
+        storage.loadData(dummyMap);
+        createObjects(dummyMap);
+        storage.updateFile(dummyMap);
+
+        DayMap loadedMap = new DayMap();
+        storage.loadData(loadedMap);
+        assertEquals("2020-08-09, [F] | Apple | 50, [E] | Jogging | 100", loadedMap.toString(date.atStartOfDay()));
+        assertEquals("2020-08-10, [F] | Banana | 101", loadedMap.toString(date2.atStartOfDay()));
+    }
+
+    @Test
+    void updateFile_removedDay_notLoaded() throws IOException {
+        Storage storage = createStorage();
+        DayMap dummyMap = new DayMap();
+        storage.loadData(dummyMap);
+        createObjects(dummyMap);
+        storage.updateFile(dummyMap);
+        dummyMap.removeDay(date);
+        storage.updateFile(dummyMap);
+
+        DayMap loadedMap = new DayMap();
+        storage.loadData(loadedMap);
+        assertNull(loadedMap.getActivityList(date.atStartOfDay()));
+        assertEquals("2020-08-10, [F] | Banana | 101", loadedMap.toString(date2.atStartOfDay()));
+    }
+
+    @Test
+    void loadData_existingSnapshot_activitiesLoadedWhenFirstNeeded() throws IOException {
+        Storage storage = createStorage();
+        Files.createDirectories(dataPath.getParent());
+        Files.write(dataPath, ("2020-08-10, [F] | Banana | 101\n"
+                + "2020-08-09, [F] | Apple | 50, [E] | Jogging | 100\n").getBytes());
+
+        DayMap loadedMap = new DayMap();
+        storage.loadData(loadedMap);
+        assertEquals(2, loadedMap.getHashMap().size());
+        assertNull(loadedMap.getHashMap().get(date));
+        assertEquals("2020-08-09, [F] | Apple | 50, [E] | Jogging | 100", loadedMap.toString(date.atStartOfDay()));
+        assertNull(loadedMap.getHashMap().get(date2));
+        assertEquals("2020-08-10, [F] | Banana | 101", loadedMap.toString(date2.atStartOfDay()));
+    }
+
+    @Test
+    void loadData_tornJournalRecord_recordDropped() throws IOException {
+        Storage storage = createStorage();
+        Files.createDirectories(dataPath.getParent());
+        Path journalPath = Path.of(dataPath + ".journal");
+        Files.write(journalPath, ("2020-08-09, [F] | Apple | 50\n"
+                + "2020-08-10, [F] | Ban").getBytes());
+
+        DayMap dummyMap = new DayMap();
+        storage.loadData(dummyMap);
+        assertEquals("2020-08-09, [F] | Apple | 50", dummyMap.toString(date.atStartOfDay()));
+        assertNull(dummyMap.getActivityList(date2.atStartOfDay()));
+        dummyMap.addActivity(date2.atStartOfDay(), new Food("Banana", 101, date2));
+        storage.updateFile(dummyMap);
+
+        DayMap loadedMap = new DayMap();
+        storage.loadData(loadedMap);
+        assertEquals("2020-08-10, [F] | Banana | 101", loadedMap.toString(date2.atStartOfDay()));
+    }
+
+    @Test
+    void updateFile_inTransaction_notSavedUntilCommitted() throws IOException {
+        Storage storage = createStorage();
+        DayMap dummyMap = new DayMap();
+        storage.loadData(dummyMap);
+        dummyMap.beginTransaction();
+        createObjects(dummyMap);
+        storage.updateFile(dummyMap);
+        dummyMap.rollbackTransaction();
+        storage.updateFile(dummyMap);
+
+        DayMap loadedMap = new DayMap();
+        storage.loadData(loadedMap);
+        assertNull(loadedMap.getActivityList(date.atStartOfDay()));
+
+        dummyMap.beginTransaction();
+        createObjects(dummyMap);
+        storage.updateFile(dummyMap);
+        dummyMap.commitTransaction();
+        storage.updateFile(dummyMap);
+
+        loadedMap = new DayMap();
+        storage.loadData(loadedMap);
+        assertEquals("2020-08-10, [F] | Banana | 101", loadedMap.toString(date2.atStartOfDay()));
+    }
+
+    @Test
+    void loadData_truncatedBinarySnapshot_csvSnapshotLoaded() throws IOException {
+        createDataPath();
+        Files.createDirectories(dataPath.getParent());
+        Files.writeString(dataPath, "2020-08-09, [F] | Apple | 50, [E] | Jogging | 100\n"
+                + "2020-08-10, [F] | Banana | 101\n");
+        DayMap dummyMap = new DayMap();
+        createObjects(dummyMap);
+        Path binaryPath = Path.of(dataPath + ".bin");
+        BinarySnapshot.write(binaryPath.toFile(), dummyMap);
+        try (RandomAccessFile binaryFile = new RandomAccessFile(binaryPath.toFile(), "rw")) {
+            binaryFile.setLength(binaryFile.length() - 5);
+        }
+        binaryPath.toFile().setLastModified(dataPath.toFile().lastModified() + 1000);
+
+        Storage storage = new Storage(dataPath.toString());
+        storage.setBinarySnapshotEnabled(true);
+        DayMap loadedMap = new DayMap();
+        storage.loadData(loadedMap);
+        assertEquals("2020-08-09, [F] | Apple | 50, [E] | Jogging | 100", loadedMap.toString(date.atStartOfDay()));
+        assertEquals("2020-08-10, [F] | Banana | 101", loadedMap.toString(date2.atStartOfDay()));
+    }
+}
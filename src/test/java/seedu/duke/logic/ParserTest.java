@@ -2,12 +2,29 @@ package seedu.duke.logic;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import seedu.duke.Trakcal;
+import seedu.duke.command.AddFoodCommand;
 import seedu.duke.command.Command;
 import seedu.duke.command.DeleteCommand;
+import seedu.duke.command.FindAllCommand;
+import seedu.duke.command.FindDescriptionCommand;
+import seedu.duke.model.DayMap;
+import seedu.duke.storage.Storage;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ParserTest {
+    private static final String SAVED_MESSAGE = "The current activity list has been saved.";
 
     @Test
     public void deleteAll_success() {
@@ -23,4 +40,99 @@ class ParserTest {
         assertTrue(cmd instanceof DeleteCommand);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void findWithPage_success() {
+        Parser parser = new Parser("find a/rice --page 2");
+        Command cmd = parser.parseCommand();
+        assertTrue(cmd instanceof FindAllCommand);
+    }
+
+    @Test
+    public void findWithPageInDescription_pageLeftInDescription() {
+        Parser parser = new Parser("find d/ my--page recipe");
+        Command cmd = parser.parseCommand();
+        assertTrue(cmd instanceof FindDescriptionCommand);
+    }
+
+    @Test
+    public void findTrailingOption_onlyOptionAtEnd() {
+        assertEquals(10, InputTokenizer.findTrailingOption("find d/ a --page 2", "--page"));
+        assertEquals(InputTokenizer.NOT_FOUND, InputTokenizer.findTrailingOption("find d/ --page 2 a", "--page"));
+        assertEquals(InputTokenizer.NOT_FOUND, InputTokenizer.findTrailingOption("find d/ a--page 2", "--page"));
+        assertEquals(InputTokenizer.NOT_FOUND, InputTokenizer.findTrailingOption("--page 2", "--page"));
+    }
+
+    @Test
+    public void addWithSlashInDescription_success() {
+        Parser parser = new Parser("add   f/ mac/cheese   c/ 300 d/ 2020-10-10");
+        Command cmd = parser.parseCommand();
+        assertTrue(cmd instanceof AddFoodCommand);
+    }
+
+    @Test
+    public void findTags_tagsAtStartOfWords() {
+        int[] tagIndexes = InputTokenizer.findTags("f/ mac/cheese c/ 300 d/ 2020-10-10");
+        assertEquals(0, tagIndexes[InputTokenizer.FOOD_TAG]);
+        assertEquals(14, tagIndexes[InputTokenizer.CALORIE_TAG]);
+        assertEquals(21, tagIndexes[InputTokenizer.DATE_TAG]);
+        assertEquals(InputTokenizer.NOT_FOUND, tagIndexes[InputTokenizer.EXERCISE_TAG]);
+    }
+
+    @Test
+    public void normaliseSpacesAndSplitChain() {
+        assertEquals("list 2020-10-10", InputTokenizer.normaliseSpaces("  list   2020-10-10 "));
+        assertEquals(List.of("list", "help"), InputTokenizer.splitChain("list && help &&", Parser.CHAIN_SEPARATOR));
+    }
+
+    @Test
+    public void chainWithAddSet_chainUndone_nothingSaved() throws IOException {
+        Path setFile = Files.createTempFile(Path.of("").toAbsolutePath(), "chainset", ".txt");
+        Path dataPath = Files.createTempDirectory("trakcal").resolve("tpdata").resolve("tpcsv.csv");
+        DayMap savedList = Trakcal.calList;
+        Storage savedStorage = Trakcal.storage;
+        try {
+            Files.writeString(setFile, "f/ apple c/ 50\n");
+            Trakcal.calList = new DayMap();
+            Trakcal.storage = new Storage(dataPath.toString());
+            Trakcal.storage.loadData(Trakcal.calList);
+
+            String setName = setFile.getFileName().toString().replace(".txt", "");
+            new Parser("").prepareChaining("add f/ rice c/ 100 d/ 2020-10-10 && addset " + setName);
+            assertNull(Trakcal.calList.getActivityList(LocalDate.of(2020, 10, 10).atStartOfDay()));
+            assertNull(Trakcal.calList.getActivityList(LocalDate.now().atStartOfDay()));
+
+            Trakcal.storage.flush();
+            DayMap loadedList = new DayMap();
+            new Storage(dataPath.toString()).loadData(loadedList);
+            assertNull(loadedList.getActivityList(LocalDate.of(2020, 10, 10).atStartOfDay()));
+        } finally {
+            Trakcal.calList = savedList;
+            Trakcal.storage = savedStorage;
+            Files.deleteIfExists(setFile);
+        }
+    }
+
+    @Test
+    public void chainOfAdds_chainSaved_savedMessageShownOnce() throws IOException {
+        Path dataPath = Files.createTempDirectory("trakcal").resolve("tpdata").resolve("tpcsv.csv");
+        DayMap savedList = Trakcal.calList;
+        Storage savedStorage = Trakcal.storage;
+        PrintStream savedOutput = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            Trakcal.calList = new DayMap();
+            Trakcal.storage = new Storage(dataPath.toString());
+            Trakcal.storage.loadData(Trakcal.calList);
+            System.setOut(new PrintStream(output, true));
+
+            new Parser("").prepareChaining("add f/ rice c/ 100 d/ 2020-10-10 && add f/ egg c/ 50 d/ 2020-10-10");
+            String printed = output.toString();
+            assertEquals(printed.indexOf(SAVED_MESSAGE), printed.lastIndexOf(SAVED_MESSAGE));
+            assertTrue(printed.indexOf(SAVED_MESSAGE) > printed.indexOf("[F] | egg | 50"));
+        } finally {
+            System.setOut(savedOutput);
+            Trakcal.calList = savedList;
+            Trakcal.storage = savedStorage;
+        }
+    }
+}